@@ -0,0 +1,98 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.patterns.linear.fastslowpointers.LinkedListCycle;
+import com.learning.patterns.linear.fastslowpointers.MiddleOfLinkedList;
+import com.learning.utils.BatchExecutor;
+import com.learning.utils.WorkloadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cycle checks and middle lookups over {@code lists} short lists of 8 to 64
+ * nodes, one in four of them cyclic: a plain loop on the calling thread
+ * against a {@link BatchExecutor} with {@code chunkSize} lists per task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class BatchExecutorBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int lists;
+
+    @Param({"64", "1024"})
+    private int chunkSize;
+
+    private final LinkedListCycle cycle = new LinkedListCycle();
+    private final MiddleOfLinkedList middle = new MiddleOfLinkedList();
+
+    private List<Node> heads;
+    private List<Node> acyclic;
+    private BatchExecutor executor;
+
+    @Setup
+    public void setUp() {
+        final WorkloadGenerator generator = new WorkloadGenerator(42L);
+        final WorkloadGenerator.Distribution values = WorkloadGenerator.Distribution.uniform(0, 1000);
+        heads = new ArrayList<>(lists);
+        acyclic = new ArrayList<>(lists);
+        for (int i = 0; i < lists; i++) {
+            final int length = 8 + i % 57;
+            final boolean cyclic = i % 4 == 0;
+            final Node head = generator.listWithCycle(length, values, cyclic ? length / 2 : -1);
+            heads.add(head);
+            if (!cyclic) {
+                acyclic.add(head);
+            }
+        }
+        executor = new BatchExecutor(ForkJoinPool.commonPool(), chunkSize);
+    }
+
+    @Benchmark
+    public int cycleSequential() {
+        int found = 0;
+        for (Node head : heads) {
+            if (cycle.hasCycle(head)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public boolean[] cycleBatched() {
+        return executor.mapToBoolean(heads, cycle::hasCycle).values();
+    }
+
+    @Benchmark
+    public long middleSequential() {
+        long sum = 0;
+        for (Node head : acyclic) {
+            sum += middle.getMiddle(head);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int[] middleBatched() {
+        return executor.mapToInt(acyclic, middle::getMiddle).values();
+    }
+}
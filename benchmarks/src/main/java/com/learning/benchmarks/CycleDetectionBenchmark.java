@@ -0,0 +1,85 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.model.NodeArena;
+import com.learning.patterns.linear.fastslowpointers.FindCycleLength;
+import com.learning.patterns.linear.fastslowpointers.LinkedListCycle;
+import com.learning.patterns.linear.fastslowpointers.LinkedListCycleII;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cycle detection on lists with no cycle, a cycle spanning the whole list and
+ * a long tail ending in a short cycle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class CycleDetectionBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    @Param({"NO_CYCLE", "CYCLE_AT_HEAD", "CYCLE_AT_TAIL"})
+    private ListShape shape;
+
+    @Param({"NODE", "ARENA"})
+    private Representation representation;
+
+    private final LinkedListCycle linkedListCycle = new LinkedListCycle();
+    private final LinkedListCycleII linkedListCycleII = new LinkedListCycleII();
+    private final FindCycleLength findCycleLength = new FindCycleLength();
+
+    private Node head;
+    private NodeArena arena;
+    private int arenaHead;
+
+    @Setup
+    public void setUp() {
+        final int[] values = Fixtures.palindromeValues(size);
+        final int cycleEntry = shape.cycleEntry(size);
+        if (representation == Representation.NODE) {
+            head = Fixtures.nodeList(values, cycleEntry);
+        } else {
+            arena = new NodeArena(size);
+            arenaHead = Fixtures.arenaList(arena, values, cycleEntry);
+        }
+    }
+
+    @Benchmark
+    public boolean hasCycle() {
+        return representation == Representation.NODE
+                ? linkedListCycle.hasCycle(head)
+                : linkedListCycle.hasCycle(arena, arenaHead);
+    }
+
+    @Benchmark
+    public int findCycleStart() {
+        if (representation == Representation.NODE) {
+            final Node start = linkedListCycleII.findCycleStart(head);
+            return start == null ? -1 : start.getData();
+        }
+        return linkedListCycleII.findCycleStart(arena, arenaHead);
+    }
+
+    @Benchmark
+    public int findCycleLength() {
+        return representation == Representation.NODE
+                ? findCycleLength.findCycleLength(head)
+                : findCycleLength.findCycleLength(arena, arenaHead);
+    }
+}
@@ -0,0 +1,71 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.patterns.linear.fastslowpointers.CycleDetector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Floyd, Brent and Gosper {@link CycleDetector} engines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class CycleDetectorBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    @Param({"NO_CYCLE", "CYCLE_AT_HEAD", "CYCLE_AT_TAIL"})
+    private ListShape shape;
+
+    @Param({"FLOYD", "BRENT", "GOSPER"})
+    private String engine;
+
+    private CycleDetector detector;
+    private Node head;
+
+    @Setup
+    public void setUp() {
+        switch (engine) {
+            case "BRENT":
+                detector = CycleDetector.BRENT;
+                break;
+            case "GOSPER":
+                detector = CycleDetector.GOSPER;
+                break;
+            default:
+                detector = CycleDetector.FLOYD;
+        }
+        head = Fixtures.nodeList(Fixtures.palindromeValues(size), shape.cycleEntry(size));
+    }
+
+    @Benchmark
+    public Object detect() {
+        return detector.detect(head);
+    }
+
+    @Benchmark
+    public boolean hasCycle() {
+        return detector.hasCycle(head);
+    }
+
+    @Benchmark
+    public int cycleLength() {
+        return detector.cycleLength(head);
+    }
+}
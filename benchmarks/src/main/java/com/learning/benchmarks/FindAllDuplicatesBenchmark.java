@@ -0,0 +1,66 @@
+package com.learning.benchmarks;
+
+import com.learning.patterns.linear.fastslowpointers.FindAllDuplicates;
+import com.learning.utils.WorkloadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FindAllDuplicates} on values drawn from {@code [0, size)}, so roughly
+ * a third of the values repeat. {@code input} selects the parallel array scan,
+ * a sequential {@code IntStream}, or 64K-element chunks fed to a collector.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class FindAllDuplicatesBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int CHUNK = 1 << 16;
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    @Param({"ARRAY", "STREAM", "CHUNKS"})
+    private String input;
+
+    private final FindAllDuplicates solver = new FindAllDuplicates();
+
+    private int[] nums;
+
+    @Setup
+    public void setUp() {
+        nums = new WorkloadGenerator(SEED).ints(size, WorkloadGenerator.Distribution.uniform(0, size - 1));
+    }
+
+    @Benchmark
+    public FindAllDuplicates.Duplicates findAll() {
+        switch (input) {
+            case "STREAM":
+                return solver.findAll(Arrays.stream(nums), 0, size - 1);
+            case "CHUNKS":
+                final FindAllDuplicates.ChunkCollector collector = solver.collector(0, size - 1);
+                for (int from = 0; from < size; from += CHUNK) {
+                    collector.accept(nums, from, Math.min(size, from + CHUNK));
+                }
+                return collector.result();
+            default:
+                return solver.findAll(nums);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.model.NodeArena;
+import com.learning.utils.LinkedListHelper;
+
+/**
+ * Builds benchmark inputs. All data is derived deterministically from the size so
+ * runs are comparable across forks and machines.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /** Values 0, 1, 2, ..., 2, 1, 0 so palindrome checks compare the whole list. */
+    static int[] palindromeValues(int size) {
+        final int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = Math.min(i, size - 1 - i);
+        }
+        return values;
+    }
+
+    /** Builds a node list of {@code size} elements and links its tail to {@code cycleEntry} (if >= 0). */
+    static Node nodeList(int[] values, int cycleEntry) {
+        final Node head = LinkedListHelper.fromArray(values);
+        if (cycleEntry >= 0) {
+            Node tail = head;
+            Node entry = null;
+            for (int i = 0; tail.getNext() != null; i++) {
+                if (i == cycleEntry) {
+                    entry = tail;
+                }
+                tail = tail.getNext();
+            }
+            tail.setNext(entry == null ? tail : entry);
+        }
+        return head;
+    }
+
+    /** Arena counterpart of {@link #nodeList(int[], int)}; returns the head index. */
+    static int arenaList(NodeArena arena, int[] values, int cycleEntry) {
+        final int head = LinkedListHelper.fromArray(arena, values);
+        if (cycleEntry >= 0) {
+            // fromArray allocates sequentially, so node i is at index head + i
+            arena.setNext(head + values.length - 1, head + cycleEntry);
+        }
+        return head;
+    }
+
+    /** Returns the {@code index}-th node of the chain starting at {@code head}. */
+    static Node nodeAt(Node head, int index) {
+        Node node = head;
+        for (int i = 0; i < index; i++) {
+            node = node.getNext();
+        }
+        return node;
+    }
+}
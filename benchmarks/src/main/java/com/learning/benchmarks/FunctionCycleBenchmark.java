@@ -0,0 +1,119 @@
+package com.learning.benchmarks;
+
+import com.learning.patterns.linear.fastslowpointers.CircularArrayLoop;
+import com.learning.patterns.linear.fastslowpointers.FindDuplicateNumber;
+import com.learning.patterns.linear.fastslowpointers.FunctionalCycleFinder;
+import com.learning.patterns.linear.fastslowpointers.HappyNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cycle detection over functions and arrays: happy numbers, the duplicate
+ * number, circular array loops and the period of a PRNG-style step function.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class FunctionCycleBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    private final HappyNumber happyNumber = new HappyNumber();
+    private final FindDuplicateNumber findDuplicateNumber = new FindDuplicateNumber();
+    private final CircularArrayLoop circularArrayLoop = new CircularArrayLoop();
+
+    /** Permutation of 1..size plus one duplicated value; a single long cycle. */
+    private int[] duplicates;
+    /** Forward jumps of +1 with the last one pointing backwards: no valid loop. */
+    private int[] jumps;
+    /** Mask of a power-of-two modulus at least {@code size}. */
+    private int lcgMask;
+
+    @Setup
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        duplicates = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            duplicates[i] = i + 1;
+        }
+        duplicates[size] = 1 + random.nextInt(size);
+        for (int i = size - 1; i > 0; i--) { // Fisher-Yates
+            final int j = random.nextInt(i + 1);
+            final int tmp = duplicates[i];
+            duplicates[i] = duplicates[j];
+            duplicates[j] = tmp;
+        }
+
+        jumps = new int[size];
+        for (int i = 0; i < size; i++) {
+            jumps[i] = 1;
+        }
+        jumps[size - 1] = -1;
+
+        lcgMask = Integer.highestOneBit(Math.max(1, size - 1)) * 2 - 1;
+    }
+
+    /** Classifies the ids 1..size one call at a time. */
+    @Benchmark
+    public int isHappy() {
+        int happy = 0;
+        for (int n = 1; n <= size; n++) {
+            if (happyNumber.isHappy(n)) {
+                happy++;
+            }
+        }
+        return happy;
+    }
+
+    /** Classifies the ids 1..size with the table-driven, parallel range API. */
+    @Benchmark
+    public long[] classifyHappy() {
+        return happyNumber.classify(1, size + 1L);
+    }
+
+    @Benchmark
+    public int findDuplicate() {
+        return findDuplicateNumber.findDuplicate(duplicates);
+    }
+
+    /** Includes the defensive copy callers need because the input is zeroed. */
+    @Benchmark
+    public boolean circularArrayLoop() {
+        return circularArrayLoop.circularArrayLoop(jumps.clone());
+    }
+
+    @Benchmark
+    public boolean circularArrayLoopReadOnly() {
+        return circularArrayLoop.circularArrayLoopReadOnly(jumps);
+    }
+
+    @Benchmark
+    public boolean circularArrayLoopParallel() {
+        return circularArrayLoop.circularArrayLoopParallel(jumps);
+    }
+
+    /** Full-period LCG modulo a power of two: lambda is the modulus, mu is 0. */
+    @Benchmark
+    public long lcgPeriod() {
+        final int mask = lcgMask;
+        return FunctionalCycleFinder.find(1, x -> (x * 1103515245 + 12345) & mask);
+    }
+}
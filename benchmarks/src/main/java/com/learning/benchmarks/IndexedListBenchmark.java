@@ -0,0 +1,65 @@
+package com.learning.benchmarks;
+
+import com.learning.model.IndexedList;
+import com.learning.patterns.linear.fastslowpointers.MiddleOfLinkedList;
+import com.learning.patterns.linear.fastslowpointers.RemoveNthNodeFromEnd;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeated middle and nth-from-end queries on a long-lived {@link IndexedList};
+ * compare with the {@code NODE} rows of {@link LinkedListBenchmark}, which
+ * walk the whole list each time. Removal takes the middle node (so half the
+ * checkpoints shift) and appends a node to keep the size constant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class IndexedListBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    @Param({"64", "4096"})
+    private int stride;
+
+    private final MiddleOfLinkedList middleOfLinkedList = new MiddleOfLinkedList();
+    private final RemoveNthNodeFromEnd removeNthNodeFromEnd = new RemoveNthNodeFromEnd();
+
+    private IndexedList list;
+
+    @Setup
+    public void setUp() {
+        list = IndexedList.wrap(Fixtures.nodeList(Fixtures.palindromeValues(size), -1), stride);
+    }
+
+    @Benchmark
+    public int getMiddle() {
+        return middleOfLinkedList.getMiddle(list);
+    }
+
+    @Benchmark
+    public int nthFromEnd() {
+        return list.nthFromEnd(size / 3 + 1).getData();
+    }
+
+    @Benchmark
+    public void removeMiddleAndAppend() {
+        removeNthNodeFromEnd.removeNthFromEnd(list, size / 2 + 1);
+        list.append(0);
+    }
+}
@@ -0,0 +1,82 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.model.NodeArena;
+import com.learning.patterns.linear.fastslowpointers.IntersectionOfTwoLinkedLists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Intersection of two lists of {@code size} nodes each, either disjoint or
+ * running into a shared tail of {@code size / 2} nodes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class IntersectionBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    @Param({"DISJOINT", "SHARED_TAIL"})
+    private IntersectionShape shape;
+
+    @Param({"NODE", "ARENA"})
+    private Representation representation;
+
+    private final IntersectionOfTwoLinkedLists solver = new IntersectionOfTwoLinkedLists();
+
+    private Node headA;
+    private Node headB;
+    private NodeArena arena;
+    private int arenaHeadA;
+    private int arenaHeadB;
+
+    @Setup
+    public void setUp() {
+        final int shared = shape == IntersectionShape.SHARED_TAIL ? size / 2 : 0;
+        final int[] prefixA = Fixtures.palindromeValues(size - shared);
+        final int[] prefixB = Fixtures.palindromeValues(size - shared + 1);
+        final int[] tail = Fixtures.palindromeValues(shared);
+
+        if (representation == Representation.NODE) {
+            final Node sharedTail = Fixtures.nodeList(tail, -1);
+            headA = Fixtures.nodeList(prefixA, -1);
+            headB = Fixtures.nodeList(prefixB, -1);
+            Fixtures.nodeAt(headA, prefixA.length - 1).setNext(sharedTail);
+            Fixtures.nodeAt(headB, prefixB.length - 1).setNext(sharedTail);
+        } else {
+            arena = new NodeArena(prefixA.length + prefixB.length + shared);
+            arenaHeadA = Fixtures.arenaList(arena, prefixA, -1);
+            arenaHeadB = Fixtures.arenaList(arena, prefixB, -1);
+            if (shared > 0) {
+                final int sharedTail = Fixtures.arenaList(arena, tail, -1);
+                arena.setNext(arenaHeadA + prefixA.length - 1, sharedTail);
+                arena.setNext(arenaHeadB + prefixB.length - 1, sharedTail);
+            }
+        }
+    }
+
+    @Benchmark
+    public int getIntersectionNode() {
+        if (representation == Representation.NODE) {
+            final Node node = solver.getIntersectionNode(headA, headB);
+            return node == null ? -1 : node.getData();
+        }
+        return solver.getIntersectionNode(arena, arenaHeadA, arenaHeadB);
+    }
+}
@@ -0,0 +1,11 @@
+package com.learning.benchmarks;
+
+/**
+ * Shapes of the list pair used by the intersection benchmarks.
+ */
+public enum IntersectionShape {
+    /** The two lists share no node. */
+    DISJOINT,
+    /** Both lists run into the same tail holding half of the nodes. */
+    SHARED_TAIL
+}
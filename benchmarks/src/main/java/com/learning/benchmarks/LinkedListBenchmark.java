@@ -0,0 +1,183 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.model.NodeArena;
+import com.learning.model.PersistentList;
+import com.learning.model.UnrolledList;
+import com.learning.patterns.linear.fastslowpointers.MiddleOfLinkedList;
+import com.learning.patterns.linear.fastslowpointers.PalindromeLinkedList;
+import com.learning.patterns.linear.fastslowpointers.RemoveNthNodeFromEnd;
+import com.learning.patterns.linear.fastslowpointers.ReorderList;
+import com.learning.patterns.linear.fastslowpointers.RotateList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Middle, palindrome, reorder, rotate and nth-from-end removal on acyclic lists.
+ *
+ * <p>Mutating operations keep the list at its original length between
+ * invocations: reorder and rotate are permutations, and the removed tail node
+ * is linked back after each removal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class LinkedListBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    @Param({"NODE", "ARENA", "UNROLLED", "PERSISTENT"})
+    private Representation representation;
+
+    private final MiddleOfLinkedList middleOfLinkedList = new MiddleOfLinkedList();
+    private final PalindromeLinkedList palindromeLinkedList = new PalindromeLinkedList();
+    private final ReorderList reorderList = new ReorderList();
+    private final RotateList rotateList = new RotateList();
+    private final RemoveNthNodeFromEnd removeNthNodeFromEnd = new RemoveNthNodeFromEnd();
+
+    private Node head;
+    private NodeArena arena;
+    private int arenaHead;
+
+    private Node beforeTail;
+    private Node tail;
+    private int arenaBeforeTail = NodeArena.NIL;
+    private int arenaTail;
+
+    private UnrolledList unrolled;
+
+    private PersistentList persistent;
+    private PersistentList removed;
+
+    @Setup
+    public void setUp() {
+        final int[] values = Fixtures.palindromeValues(size);
+        switch (representation) {
+            case NODE:
+                head = Fixtures.nodeList(values, -1);
+                tail = Fixtures.nodeAt(head, size - 1);
+                beforeTail = size > 1 ? Fixtures.nodeAt(head, size - 2) : null;
+                break;
+            case ARENA:
+                arena = new NodeArena(size);
+                arenaHead = Fixtures.arenaList(arena, values, -1);
+                arenaTail = arenaHead + size - 1;
+                arenaBeforeTail = size > 1 ? arenaTail - 1 : NodeArena.NIL;
+                break;
+            case UNROLLED:
+                unrolled = UnrolledList.fromArray(values);
+                break;
+            default:
+                persistent = PersistentList.of(values);
+                break;
+        }
+    }
+
+    @Benchmark
+    public int getMiddle() {
+        switch (representation) {
+            case NODE:
+                return middleOfLinkedList.getMiddle(head);
+            case ARENA:
+                return middleOfLinkedList.getMiddle(arena, arenaHead);
+            case UNROLLED:
+                return middleOfLinkedList.getMiddle(unrolled);
+            default:
+                return persistent.get(size / 2);
+        }
+    }
+
+    @Benchmark
+    public boolean isPalindrome() {
+        switch (representation) {
+            case NODE:
+                return palindromeLinkedList.isPalindrome(head);
+            case ARENA:
+                return palindromeLinkedList.isPalindrome(arena, arenaHead);
+            case UNROLLED:
+                return palindromeLinkedList.isPalindrome(unrolled);
+            default:
+                return palindromeLinkedList.isPalindrome(persistent);
+        }
+    }
+
+    @Benchmark
+    public void reorderList() {
+        switch (representation) {
+            case NODE:
+                reorderList.reorderList(head);
+                break;
+            case ARENA:
+                reorderList.reorderList(arena, arenaHead);
+                break;
+            case UNROLLED:
+                reorderList.reorderList(unrolled);
+                break;
+            default:
+                persistent = reorderList.reorderList(persistent);
+                break;
+        }
+    }
+
+    @Benchmark
+    public void rotateRight() {
+        switch (representation) {
+            case NODE:
+                head = rotateList.rotateRight(head, size / 3);
+                break;
+            case ARENA:
+                arenaHead = rotateList.rotateRight(arena, arenaHead, size / 3);
+                break;
+            case UNROLLED:
+                rotateList.rotateRight(unrolled, size / 3);
+                break;
+            default:
+                persistent = rotateList.rotateRight(persistent, size / 3);
+                break;
+        }
+    }
+
+    @Benchmark
+    public void removeNthFromEnd() {
+        // Removing the last node walks the whole list, the same work as any other n.
+        // The head never changes for size > 1, and the tail is relinked in O(1).
+        switch (representation) {
+            case NODE:
+                removeNthNodeFromEnd.removeNthFromEnd(head, 1);
+                if (beforeTail != null) {
+                    beforeTail.setNext(tail);
+                }
+                break;
+            case ARENA:
+                removeNthNodeFromEnd.removeNthFromEnd(arena, arenaHead, 1);
+                if (arenaBeforeTail != NodeArena.NIL) {
+                    arena.setNext(arenaBeforeTail, arenaTail);
+                }
+                break;
+            case UNROLLED:
+                // The unrolled list knows its size; appending restores it in O(1).
+                removeNthNodeFromEnd.removeNthFromEnd(unrolled, 1);
+                unrolled.add(0);
+                break;
+            default:
+                // A new version copies every cell before the last; the original is untouched.
+                removed = removeNthNodeFromEnd.removeNthFromEnd(persistent, 1);
+                break;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.learning.benchmarks;
+
+/**
+ * Shapes of a single list used by the cycle-detection benchmarks.
+ */
+public enum ListShape {
+    /** Plain list terminated by {@code null}. */
+    NO_CYCLE,
+    /** The tail links back to the head: the whole list is the cycle. */
+    CYCLE_AT_HEAD,
+    /** The tail links back to the node just before it: a long tail and a 2-node cycle. */
+    CYCLE_AT_TAIL;
+
+    /**
+     * Index of the node the tail links back to, or {@code -1} for an acyclic list.
+     */
+    int cycleEntry(int size) {
+        switch (this) {
+            case CYCLE_AT_HEAD:
+                return 0;
+            case CYCLE_AT_TAIL:
+                return Math.max(0, size - 2);
+            default:
+                return -1;
+        }
+    }
+}
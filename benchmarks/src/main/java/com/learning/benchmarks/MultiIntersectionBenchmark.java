@@ -0,0 +1,79 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.patterns.linear.fastslowpointers.IntersectionOfTwoLinkedLists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code lists} lists of about {@code size} nodes each, merging pairwise into
+ * a binary tree of shared tails: every pair through
+ * {@link IntersectionOfTwoLinkedLists#getIntersectionNode(Node, Node)} against
+ * one {@link IntersectionOfTwoLinkedLists#getIntersections(Node...)} call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class MultiIntersectionBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"16", "256"})
+    private int lists;
+
+    private final IntersectionOfTwoLinkedLists solver = new IntersectionOfTwoLinkedLists();
+
+    private Node[] heads;
+
+    @Setup
+    public void setUp() {
+        // Level 0 is the root segment; each list adds one segment per level of the tree.
+        final int levels = 32 - Integer.numberOfLeadingZeros(lists - 1);
+        final int segment = Math.max(1, size / (levels + 1));
+        Node[] level = {Fixtures.nodeList(Fixtures.palindromeValues(segment), -1)};
+        while (level.length < lists) {
+            final Node[] next = new Node[level.length * 2];
+            for (int i = 0; i < next.length; i++) {
+                final int[] values = Fixtures.palindromeValues(segment);
+                final Node head = Fixtures.nodeList(values, -1);
+                Fixtures.nodeAt(head, values.length - 1).setNext(level[i / 2]);
+                next[i] = head;
+            }
+            level = next;
+        }
+        heads = level;
+    }
+
+    @Benchmark
+    public int pairwise() {
+        int found = 0;
+        for (int a = 0; a < heads.length; a++) {
+            for (int b = a + 1; b < heads.length; b++) {
+                if (solver.getIntersectionNode(heads[a], heads[b]) != null) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int indexed() {
+        return solver.getIntersections(heads).size();
+    }
+}
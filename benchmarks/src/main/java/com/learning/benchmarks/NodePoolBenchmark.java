@@ -0,0 +1,61 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.model.NodePool;
+import com.learning.patterns.linear.fastslowpointers.MiddleOfLinkedList;
+import com.learning.utils.LinkedListHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request-scoped pattern: build a short list, query it, drop it. {@code NEW}
+ * allocates every node; {@code POOL} draws them from a {@link NodePool} and
+ * returns the list afterwards. Compare {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class NodePoolBenchmark {
+
+    @Param({"8", "64", "1024"})
+    private int length;
+
+    @Param({"NEW", "POOL"})
+    private String allocation;
+
+    private final MiddleOfLinkedList middle = new MiddleOfLinkedList();
+    private final NodePool pool = new NodePool();
+
+    private int[] values;
+    private boolean pooled;
+
+    @Setup
+    public void setUp() {
+        values = Fixtures.palindromeValues(length);
+        pooled = "POOL".equals(allocation);
+    }
+
+    @Benchmark
+    public int buildQueryDrop() {
+        final Node head = pooled ? LinkedListHelper.fromArray(values, pool) : LinkedListHelper.fromArray(values);
+        final int result = middle.getMiddle(head);
+        if (pooled) {
+            pool.release(head);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+package com.learning.benchmarks;
+
+import com.learning.patterns.linear.twopointers.PairWithTarget;
+import com.learning.utils.WorkloadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link PairWithTarget.Strategy} modes on unsorted input whose
+ * values are either dense (range ~ 2 * size) or spread over the whole int range.
+ * The target is odd and all values even, so every mode scans the full input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class PairWithTargetBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    @Param({"DENSE", "SPARSE"})
+    private String values;
+
+    @Param({"AUTO", "SORT", "BITMAP", "HASH"})
+    private String strategy;
+
+    private final PairWithTarget solver = new PairWithTarget();
+
+    private int[] nums;
+    private PairWithTarget.Strategy chosen;
+
+    @Setup
+    public void setUp() {
+        final WorkloadGenerator.Distribution distribution = "DENSE".equals(values)
+                ? WorkloadGenerator.Distribution.uniform(0, size - 1).map(v -> 2 * v)
+                : WorkloadGenerator.Distribution.uniform(Integer.MIN_VALUE, Integer.MAX_VALUE).map(v -> v & ~1);
+        nums = new WorkloadGenerator(SEED).ints(size, distribution);
+        chosen = "AUTO".equals(strategy) ? solver.chooseStrategy(nums) : PairWithTarget.Strategy.valueOf(strategy);
+    }
+
+    @Benchmark
+    public int[] pairWithTarget() {
+        return solver.pairWithTarget(nums, 1, chosen);
+    }
+}
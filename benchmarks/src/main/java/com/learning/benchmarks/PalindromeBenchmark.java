@@ -0,0 +1,58 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.patterns.linear.fastslowpointers.PalindromeLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PalindromeLinkedList} on a palindromic {@link Node} list: the in-place
+ * reverse-and-restore check against the read-only rolling-hash check, with and
+ * without its exact verification pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class PalindromeBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    @Param({"IN_PLACE", "READ_ONLY", "READ_ONLY_VERIFIED"})
+    private String mode;
+
+    private final PalindromeLinkedList palindromeLinkedList = new PalindromeLinkedList();
+
+    private Node head;
+
+    @Setup
+    public void setUp() {
+        head = Fixtures.nodeList(Fixtures.palindromeValues(size), -1);
+    }
+
+    @Benchmark
+    public boolean isPalindrome() {
+        switch (mode) {
+            case "READ_ONLY":
+                return palindromeLinkedList.isPalindromeReadOnly(head);
+            case "READ_ONLY_VERIFIED":
+                return palindromeLinkedList.isPalindromeReadOnly(head, true);
+            default:
+                return palindromeLinkedList.isPalindrome(head);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.learning.benchmarks;
+
+/**
+ * How a benchmarked linked list is stored.
+ */
+public enum Representation {
+    /** A chain of {@link com.learning.model.Node} objects. */
+    NODE,
+    /** Index-linked nodes inside a {@link com.learning.model.NodeArena}. */
+    ARENA,
+    /** Blocks of ints in a {@link com.learning.model.UnrolledList}. */
+    UNROLLED,
+    /** Immutable, structurally shared cells of a {@link com.learning.model.PersistentList}. */
+    PERSISTENT
+}
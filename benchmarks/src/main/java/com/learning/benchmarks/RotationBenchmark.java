@@ -0,0 +1,66 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.model.RotatableList;
+import com.learning.patterns.linear.fastslowpointers.RotateList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A burst of {@code rotations} right rotations followed by one read of the
+ * head: eager {@link RotateList} on a {@link Node} chain against the lazy
+ * {@link RotatableList}, which relinks once per burst.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class RotationBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    @Param({"1", "1000"})
+    private int rotations;
+
+    private final RotateList rotateList = new RotateList();
+
+    private Node head;
+    private RotatableList lazy;
+
+    @Setup
+    public void setUp() {
+        final int[] values = Fixtures.palindromeValues(size);
+        head = Fixtures.nodeList(values, -1);
+        lazy = RotatableList.wrap(Fixtures.nodeList(values, -1));
+    }
+
+    @Benchmark
+    public int eager() {
+        for (int i = 0; i < rotations; i++) {
+            head = rotateList.rotateRight(head, size / 3 + i);
+        }
+        return head.getData();
+    }
+
+    @Benchmark
+    public int lazy() {
+        for (int i = 0; i < rotations; i++) {
+            rotateList.rotateRight(lazy, size / 3 + i);
+        }
+        return lazy.getHead().getData();
+    }
+}
@@ -0,0 +1,82 @@
+package com.learning.benchmarks;
+
+import com.learning.model.Node;
+import com.learning.utils.SequenceFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dumps a whole array or list through {@link SequenceFormatter} into a channel
+ * that discards its input, so the score is formatting cost only. The list
+ * has a cycle at its tail to include the Brent check on its worst case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class SequenceFormatterBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    private final SequenceFormatter formatter = new SequenceFormatter(SequenceFormatter.UNLIMITED, 1 << 16);
+    private final DiscardingChannel out = new DiscardingChannel();
+
+    private int[] values;
+    private Node list;
+
+    @Setup
+    public void setUp() {
+        values = Fixtures.palindromeValues(size);
+        list = Fixtures.nodeList(values, ListShape.CYCLE_AT_TAIL.cycleEntry(size));
+    }
+
+    @Benchmark
+    public long formatArray() throws IOException {
+        formatter.formatArray(values, out);
+        return out.bytes;
+    }
+
+    @Benchmark
+    public long formatList() throws IOException {
+        formatter.formatList(list, out);
+        return out.bytes;
+    }
+
+    private static final class DiscardingChannel implements WritableByteChannel {
+        private long bytes;
+
+        @Override
+        public int write(ByteBuffer src) {
+            final int n = src.remaining();
+            src.position(src.limit());
+            bytes += n;
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
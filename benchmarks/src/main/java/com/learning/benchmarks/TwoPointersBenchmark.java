@@ -0,0 +1,147 @@
+package com.learning.benchmarks;
+
+import com.learning.model.MappedIntArray;
+import com.learning.patterns.linear.twopointers.ContainerWithMostWater;
+import com.learning.patterns.linear.twopointers.PairWithTarget;
+import com.learning.patterns.linear.twopointers.TwoSum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two-pointer array scans. Targets are chosen so that no pair matches, which
+ * forces a full scan and makes timings independent of where a pair happens to sit.
+ *
+ * <p>The {@code *Mapped} variants run the same scans over little-endian files
+ * read through {@link MappedIntArray}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class TwoPointersBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    private final TwoSum twoSum = new TwoSum();
+    private final ContainerWithMostWater containerWithMostWater = new ContainerWithMostWater();
+    private final PairWithTarget pairWithTarget = new PairWithTarget();
+
+    /** Even values 0, 2, 4, ... in ascending order. */
+    private int[] sortedEvens;
+    /** Random even values in [0, 2 * size). */
+    private int[] unsortedEvens;
+    /** Random heights in [0, 10_000). */
+    private int[] heights;
+
+    private Path sortedEvensFile;
+    private Path heightsFile;
+    private MappedIntArray mappedSortedEvens;
+    private MappedIntArray mappedHeights;
+
+    @Setup
+    public void setUp() throws IOException {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        sortedEvens = new int[size];
+        unsortedEvens = new int[size];
+        heights = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedEvens[i] = 2 * i;
+            unsortedEvens[i] = 2 * random.nextInt(size);
+            heights[i] = random.nextInt(10_000);
+        }
+
+        sortedEvensFile = writeInts(sortedEvens);
+        heightsFile = writeInts(heights);
+        mappedSortedEvens = map(sortedEvensFile);
+        mappedHeights = map(heightsFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(sortedEvensFile);
+        Files.deleteIfExists(heightsFile);
+    }
+
+    @Benchmark
+    public int[] twoSum() {
+        return twoSum.twoSum(sortedEvens, 1); // odd target: never matches
+    }
+
+    @Benchmark
+    public int maxArea() {
+        return containerWithMostWater.maxArea(heights);
+    }
+
+    @Benchmark
+    public long maxAreaParallel() {
+        return containerWithMostWater.maxAreaParallel(heights);
+    }
+
+    @Benchmark
+    public int[] pairWithTarget() {
+        return pairWithTarget.pairWithTarget(unsortedEvens, 1); // odd target: never matches
+    }
+
+    @Benchmark
+    public long[] twoSumMapped() {
+        return twoSum.twoSum(mappedSortedEvens, 1);
+    }
+
+    @Benchmark
+    public long maxAreaMapped() {
+        return containerWithMostWater.maxArea(mappedHeights);
+    }
+
+    private static Path writeInts(int[] values) throws IOException {
+        final Path file = Files.createTempFile("two-pointers", ".bin");
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            for (int value : values) {
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                buffer.putInt(value);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        return file;
+    }
+
+    private static MappedIntArray map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return MappedIntArray.map(channel, ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+}
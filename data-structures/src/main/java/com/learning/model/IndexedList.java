@@ -0,0 +1,151 @@
+package com.learning.model;
+
+import java.util.Arrays;
+
+/**
+ * Singly linked {@link Node} list that keeps its length and a checkpoint
+ * every {@code stride} nodes, so positional queries no longer walk the whole
+ * list.
+ *
+ * <p>{@code checkpoints[j]} is the node at index {@code j * stride}. Reaching
+ * any index costs one array read plus at most {@code stride - 1} steps, so
+ * middle, k-th and nth-from-end queries are O(stride). Appending is O(1);
+ * removing shifts every later checkpoint by one node, O(size / stride + stride).
+ * A stride near the square root of the expected length balances the two.
+ *
+ * <p>The wrapper owns its nodes: linking or unlinking them from outside
+ * leaves the checkpoints stale.
+ */
+public class IndexedList {
+    public static final int DEFAULT_STRIDE = 64;
+
+    private final int stride;
+    private Node[] checkpoints = new Node[4];
+    private Node head;
+    private Node tail;
+    private int size;
+
+    public IndexedList() {
+        this(DEFAULT_STRIDE);
+    }
+
+    public IndexedList(int stride) {
+        if (stride < 1) {
+            throw new IllegalArgumentException("stride must be >= 1: " + stride);
+        }
+        this.stride = stride;
+    }
+
+    /**
+     * Takes over the acyclic chain starting at {@code head}, walking it once
+     * to build the checkpoints.
+     */
+    public static IndexedList wrap(Node head, int stride) {
+        final IndexedList list = new IndexedList(stride);
+        for (Node node = head; node != null; node = node.getNext()) {
+            list.link(node);
+        }
+        return list;
+    }
+
+    /** Appends a new node holding {@code value} and returns it. */
+    public Node append(int value) {
+        final Node node = new Node(value);
+        link(node);
+        return node;
+    }
+
+    /** Returns the node at {@code index} (0-based) in O(stride). */
+    public Node get(int index) {
+        checkIndex(index);
+        Node node = checkpoints[index / stride];
+        for (int i = index % stride; i > 0; i--) {
+            node = node.getNext();
+        }
+        return node;
+    }
+
+    /**
+     * Returns the middle node: the second of the two middles for an even size,
+     * as in {@code MiddleOfLinkedList}. Returns {@code null} for an empty list.
+     */
+    public Node getMiddle() {
+        return size == 0 ? null : get(size / 2);
+    }
+
+    /** Returns the {@code n}-th node from the end (1-based), or {@code null} if out of range. */
+    public Node nthFromEnd(int n) {
+        return n < 1 || n > size ? null : get(size - n);
+    }
+
+    /** Unlinks and returns the node at {@code index}. */
+    public Node removeAt(int index) {
+        checkIndex(index);
+        final Node prev = index == 0 ? null : get(index - 1);
+        final Node removed = prev == null ? head : prev.getNext();
+        final Node next = removed.getNext();
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.setNext(next);
+        }
+        if (removed == tail) {
+            tail = prev;
+        }
+        removed.setNext(null);
+        size--;
+
+        // Checkpoints after the removed position now sit one node too early.
+        final int used = (size + stride - 1) / stride;
+        for (int j = (index + stride - 1) / stride; j < used; j++) {
+            checkpoints[j] = j * stride == index ? next : checkpoints[j].getNext();
+        }
+        if (used < checkpoints.length) {
+            checkpoints[used] = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the {@code n}-th node from the end (1-based) and returns it, or
+     * returns {@code null} if {@code n} is out of range.
+     */
+    public Node removeNthFromEnd(int n) {
+        return n < 1 || n > size ? null : removeAt(size - n);
+    }
+
+    public Node getHead() {
+        return head;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int stride() {
+        return stride;
+    }
+
+    private void link(Node node) {
+        if (size % stride == 0) {
+            final int slot = size / stride;
+            if (slot == checkpoints.length) {
+                checkpoints = Arrays.copyOf(checkpoints, slot * 2);
+            }
+            checkpoints[slot] = node;
+        }
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.setNext(node);
+        }
+        tail = node;
+        size++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.learning.model;
+
+/**
+ * Set of primitive {@code int} values using open addressing with linear probing.
+ *
+ * <p>Values are stored directly in an {@code int[]}, so adding and looking up
+ * never boxes. One value ({@code 0}) is reserved to mark empty slots and is
+ * tracked with a separate flag, which keeps every {@code int} storable.
+ * The table is a power of two and is kept at most half full, until it reaches
+ * 2^30 slots; from there it fills up and {@link #add} fails once a single
+ * empty slot is left.
+ */
+public class IntHashSet extends IntKeyTable {
+
+    public IntHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a set that can hold {@code expectedSize} values without resizing.
+     */
+    public IntHashSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * Adds {@code value}; returns {@code true} if it was not already present.
+     *
+     * @throws IllegalStateException if the table is at its largest size and full
+     */
+    public boolean add(int value) {
+        if (value == EMPTY) {
+            if (hasEmptyKey) {
+                return false;
+            }
+            hasEmptyKey = true;
+            size++;
+            return true;
+        }
+
+        final int slot = probe(value);
+        if (slot >= 0) {
+            return false;
+        }
+        insert(~slot, value);
+        return true;
+    }
+
+    public boolean contains(int value) {
+        if (value == EMPTY) {
+            return hasEmptyKey;
+        }
+        return probe(value) >= 0;
+    }
+
+    /** Removes all values while keeping the current table. */
+    public void clear() {
+        clearKeys();
+    }
+}
@@ -0,0 +1,113 @@
+package com.learning.model;
+
+/**
+ * Map from primitive {@code int} keys to {@code int} values using open
+ * addressing with linear probing.
+ *
+ * <p>Keys and values live in parallel {@code int[]} arrays, so no operation
+ * boxes. Like {@link IntHashSet}, key {@code 0} marks empty slots and is kept
+ * in a separate field. Missing keys read as {@code 0}, which makes the map a
+ * natural counter via {@link #addTo(int, int)}. The table stops growing at
+ * 2^30 slots, as in {@link IntHashSet}.
+ */
+public class IntIntHashMap extends IntKeyTable {
+
+    /** Receives one key/value pair during {@link #forEach(EntryConsumer)}. */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    private int[] values;
+    private int emptyKeyValue;
+
+    public IntIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a map that can hold {@code expectedSize} keys without resizing.
+     */
+    public IntIntHashMap(int expectedSize) {
+        super(expectedSize);
+        values = new int[keys.length];
+    }
+
+    /** Returns the value for {@code key}, or {@code 0} if absent. */
+    public int get(int key) {
+        if (key == EMPTY) {
+            return hasEmptyKey ? emptyKeyValue : 0;
+        }
+
+        final int slot = probe(key);
+        return slot >= 0 ? values[slot] : 0;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == EMPTY) {
+            return hasEmptyKey;
+        }
+        return probe(key) >= 0;
+    }
+
+    /**
+     * Adds {@code delta} to the value of {@code key} (inserting it with value
+     * {@code delta} if absent) and returns the new value.
+     *
+     * @throws IllegalStateException if the key is new and the table is at its largest size and full
+     */
+    public int addTo(int key, int delta) {
+        if (key == EMPTY) {
+            if (!hasEmptyKey) {
+                hasEmptyKey = true;
+                size++;
+            }
+            return emptyKeyValue += delta;
+        }
+
+        final int slot = probe(key);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        values[~slot] = delta; // before insert, which may move it
+        insert(~slot, key);
+        return delta;
+    }
+
+    /** Adds every value of {@code other} to the value of the same key in this map. */
+    public void addAll(IntIntHashMap other) {
+        other.forEach(this::addTo);
+    }
+
+    /** Calls {@code consumer} for every entry, in no particular order. */
+    public void forEach(EntryConsumer consumer) {
+        if (hasEmptyKey) {
+            consumer.accept(EMPTY, emptyKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /** Removes all entries while keeping the current table. */
+    public void clear() {
+        clearKeys();
+        emptyKeyValue = 0;
+    }
+
+    /** Moves the keys, then finds each value's new slot by probing for its key. */
+    @Override
+    void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        super.rehash(capacity);
+        values = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                values[probe(oldKeys[i])] = oldValues[i];
+            }
+        }
+    }
+}
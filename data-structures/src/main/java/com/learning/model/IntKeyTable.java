@@ -0,0 +1,105 @@
+package com.learning.model;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing table of primitive {@code int} keys with linear probing,
+ * shared by {@link IntHashSet} and {@link IntIntHashMap}.
+ *
+ * <p>Key {@code 0} marks empty slots, so it is tracked with a separate flag,
+ * which keeps every {@code int} storable. The table is a power of two and is
+ * kept at most half full, until it reaches 2^30 slots; from there it fills up
+ * and inserting fails once a single empty slot is left, since probing stops
+ * only at an empty slot.
+ */
+abstract class IntKeyTable {
+    static final int EMPTY = 0;
+    static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    int[] keys;
+    int mask;
+    int size;
+    boolean hasEmptyKey;
+
+    /** Sizes the table to hold {@code expectedSize} keys without resizing. */
+    IntKeyTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must be >= 0: " + expectedSize);
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot holding {@code key} (which must not be {@link #EMPTY}),
+     * or {@code ~slot} of the empty slot where it would be inserted.
+     */
+    final int probe(int key) {
+        int index = mix(key) & mask;
+        int slot;
+        while ((slot = keys[index]) != EMPTY) {
+            if (slot == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return ~index;
+    }
+
+    /**
+     * Stores {@code key} in the empty {@code slot} returned by {@link #probe},
+     * then doubles the table if it is more than half full.
+     *
+     * @throws IllegalStateException if the table is at its largest size and full
+     */
+    final void insert(int slot, int key) {
+        if (size - (hasEmptyKey ? 1 : 0) == mask) {
+            throw new IllegalStateException(getClass().getSimpleName() + " is full: " + size + " keys");
+        }
+        keys[slot] = key;
+        if (++size > (mask >> 1) && keys.length < MAX_CAPACITY) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /** Moves every key into a new table of {@code capacity} slots. */
+    void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        allocate(capacity);
+        for (int key : oldKeys) {
+            if (key != EMPTY) {
+                keys[~probe(key)] = key;
+            }
+        }
+    }
+
+    /** Empties the table while keeping its size. */
+    void clearKeys() {
+        Arrays.fill(keys, EMPTY);
+        hasEmptyKey = false;
+        size = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        final long wanted = Math.max(MIN_CAPACITY, 2L * expectedSize + 1);
+        if (wanted > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+
+    /** Spreads the bits so sequential keys do not form long probe runs. */
+    private static int mix(int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
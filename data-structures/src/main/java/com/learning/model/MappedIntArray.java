@@ -0,0 +1,84 @@
+package com.learning.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Read-only view of a file of 32-bit ints, indexed by {@code long}.
+ *
+ * <p>A single {@link java.nio.MappedByteBuffer} is limited to 2 GB, so larger
+ * files are mapped as a sequence of 1 GB segments. Values are read straight
+ * from the page cache; nothing is copied into the heap, and scanning the file
+ * sequentially lets the OS read ahead.
+ *
+ * <p>The mapping stays valid after the channel is closed and is released when
+ * this object is garbage collected.
+ */
+public final class MappedIntArray {
+    /** log2 of the number of ints per segment: 2^28 ints = 1 GB. */
+    private static final int SEGMENT_SHIFT = 28;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final ByteBuffer[] segments;
+    private final long length;
+
+    private MappedIntArray(ByteBuffer[] segments, long length) {
+        this.segments = segments;
+        this.length = length;
+    }
+
+    /**
+     * Maps the whole file behind {@code channel} read-only.
+     *
+     * @param channel channel opened for reading; its size must be a multiple of 4
+     * @param order byte order of the ints in the file
+     */
+    public static MappedIntArray map(FileChannel channel, ByteOrder order) throws IOException {
+        final long bytes = channel.size();
+        if ((bytes & 3) != 0) {
+            throw new IllegalArgumentException("File size is not a multiple of 4: " + bytes);
+        }
+
+        final long length = bytes >>> 2;
+        final int count = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        final ByteBuffer[] segments = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            final long position = ((long) i << SEGMENT_SHIFT) << 2;
+            final long size = Math.min(bytes - position, (SEGMENT_MASK + 1) << 2);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(order);
+        }
+        return new MappedIntArray(segments, length);
+    }
+
+    /**
+     * Wraps an existing buffer (e.g. a {@link java.nio.MappedByteBuffer}) using
+     * its current byte order. Ints are read from its position up to its limit,
+     * in 1 GB segments like {@link #map}.
+     */
+    public static MappedIntArray wrap(ByteBuffer buffer) {
+        final int bytes = buffer.remaining();
+        final long length = bytes >>> 2;
+        final int count = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        final ByteBuffer[] segments = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            final int offset = (int) (((long) i << SEGMENT_SHIFT) << 2);
+            final int size = (int) Math.min(bytes - offset, (SEGMENT_MASK + 1) << 2);
+            segments[i] = buffer.slice(buffer.position() + offset, size).order(buffer.order());
+        }
+        return new MappedIntArray(segments, length);
+    }
+
+    /** Number of ints in the file. */
+    public long length() {
+        return length;
+    }
+
+    public int get(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getInt((int) (index & SEGMENT_MASK) << 2);
+    }
+}
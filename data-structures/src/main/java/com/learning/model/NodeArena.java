@@ -0,0 +1,88 @@
+package com.learning.model;
+
+import java.util.Arrays;
+
+/**
+ * Primitive storage for singly linked lists.
+ *
+ * <p>Instead of one {@link Node} object per element, an arena keeps every
+ * node in two parallel {@code int[]} arrays: {@code values[i]} holds the
+ * data and {@code next[i]} the index of the successor (or {@link #NIL}).
+ * A node is identified by its index, so a list is just the index of its head.
+ * Several lists (e.g. two lists sharing a tail) can live in the same arena.
+ *
+ * <p>Each element costs 8 bytes and no object header, nodes appended in order
+ * are laid out contiguously, and the garbage collector only ever sees two
+ * arrays regardless of the list length.
+ *
+ * <p>Nodes are never freed individually; unlinked nodes stay allocated until
+ * {@link #clear()} is called.
+ */
+public class NodeArena {
+    /** Index used as the "null" reference. */
+    public static final int NIL = -1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] values;
+    private int[] next;
+    private int size;
+
+    public NodeArena() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public NodeArena(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+        }
+        this.values = new int[initialCapacity];
+        this.next = new int[initialCapacity];
+    }
+
+    /**
+     * Allocates a new unlinked node holding {@code data} and returns its index.
+     */
+    public int allocate(int data) {
+        if (size == values.length) {
+            grow();
+        }
+        values[size] = data;
+        next[size] = NIL;
+        return size++;
+    }
+
+    public int getData(int node) {
+        return values[node];
+    }
+    public void setData(int node, int data) {
+        values[node] = data;
+    }
+
+    public int getNext(int node) {
+        return next[node];
+    }
+    public void setNext(int node, int nextNode) {
+        next[node] = nextNode;
+    }
+
+    /** Number of nodes allocated so far. */
+    public int size() {
+        return size;
+    }
+
+    /** Drops all nodes while keeping the allocated capacity for reuse. */
+    public void clear() {
+        size = 0;
+    }
+
+    private void grow() {
+        if (size == MAX_CAPACITY) {
+            throw new IllegalStateException("Arena is full");
+        }
+        int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(DEFAULT_CAPACITY, size + ((long) size >> 1)));
+        values = Arrays.copyOf(values, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+    }
+}
@@ -0,0 +1,253 @@
+package com.learning.model;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Recycles {@link Node} objects so that code which builds and discards many
+ * short lists does not allocate a new node per element.
+ *
+ * <p>Every thread has its own free list, itself a chain of nodes linked
+ * through {@code next}, so acquiring and releasing never synchronize. A whole
+ * list is returned by splicing it in front of the free list: {@link
+ * #release(Node, Node, int)} does this in O(1) when the caller knows the tail
+ * and length, {@link #release(Node)} walks the list to find them.
+ *
+ * <p>Each thread keeps at most {@code maxPerThread} free nodes; anything
+ * beyond that is left to the garbage collector. Nodes released on one thread
+ * are reused by that thread only. When a thread ends, its free nodes are
+ * dropped the next time a new thread registers or {@link #stats()} runs; its
+ * counters are kept in the totals.
+ *
+ * <p>A released node must no longer be referenced by the caller: its
+ * {@code next} is overwritten and its data is replaced on the next acquire.
+ */
+public final class NodePool {
+    private static final int DEFAULT_MAX_PER_THREAD = 1 << 16;
+
+    private final int maxPerThread;
+    private final ThreadLocal<FreeList> local = ThreadLocal.withInitial(this::register);
+    private final List<FreeList> all = new ArrayList<>();  // guarded by itself
+    private final FreeList retired = new FreeList(null);   // counters of ended threads, guarded by all
+
+    public NodePool() {
+        this(DEFAULT_MAX_PER_THREAD);
+    }
+
+    public NodePool(int maxPerThread) {
+        if (maxPerThread < 0) {
+            throw new IllegalArgumentException("maxPerThread must be >= 0: " + maxPerThread);
+        }
+        this.maxPerThread = maxPerThread;
+    }
+
+    /**
+     * Returns an unlinked node holding {@code data}, reusing a free node of the
+     * calling thread when one is available.
+     */
+    public Node acquire(int data) {
+        final FreeList free = local.get();
+        final Node node = free.head;
+        if (node == null) {
+            free.misses++;
+            return new Node(data);
+        }
+
+        free.head = node.getNext();
+        free.size--;
+        free.hits++;
+        node.setData(data);
+        node.setNext(null);
+        return node;
+    }
+
+    /**
+     * Returns the list starting at {@code head} to the calling thread's pool.
+     * The list is walked once, to its end; if it is longer than the space left
+     * in the pool, only a prefix is kept and the rest counts as discarded. The list must be acyclic (break a cycle first).
+     */
+    public void release(Node head) {
+        if (head == null) {
+            return;
+        }
+
+        final FreeList free = local.get();
+        final int room = maxPerThread - free.size;
+        if (room <= 0) {
+            free.discarded += length(head);
+            return;
+        }
+
+        Node tail = head;
+        int count = 1;
+        while (count < room && tail.getNext() != null) {
+            tail = tail.getNext();
+            count++;
+        }
+        if (tail.getNext() != null) {
+            free.discarded += length(tail.getNext());
+        }
+        free.splice(head, tail, count);
+    }
+
+    /**
+     * Returns the list {@code head .. tail} of {@code count} nodes to the
+     * calling thread's pool in O(1). If the pool has no room for all of them,
+     * the whole list is left to the garbage collector instead.
+     */
+    public void release(Node head, Node tail, int count) {
+        if (head == null) {
+            return;
+        }
+        if (tail == null || count <= 0) {
+            throw new IllegalArgumentException("tail and a positive count are required");
+        }
+
+        final FreeList free = local.get();
+        if (count > maxPerThread - free.size) {
+            free.discarded += count;
+            return;
+        }
+        free.splice(head, tail, count);
+    }
+
+    /** Statistics for the calling thread's free list. */
+    public Stats localStats() {
+        final FreeList free = local.get();
+        return new Stats(free.hits, free.misses, free.released, free.discarded, free.size);
+    }
+
+    /**
+     * Statistics summed over every thread that has used this pool, including
+     * threads that have ended. Counters of running threads are read without
+     * synchronization, so the result is an approximate snapshot while they run.
+     */
+    public Stats stats() {
+        synchronized (all) {
+            pruneEnded();
+            long hits = retired.hits;
+            long misses = retired.misses;
+            long released = retired.released;
+            long discarded = retired.discarded;
+            long pooled = 0;
+            for (FreeList free : all) {
+                hits += free.hits;
+                misses += free.misses;
+                released += free.released;
+                discarded += free.discarded;
+                pooled += free.size;
+            }
+            return new Stats(hits, misses, released, discarded, pooled);
+        }
+    }
+
+    private FreeList register() {
+        final FreeList free = new FreeList(Thread.currentThread());
+        synchronized (all) {
+            pruneEnded();
+            all.add(free);
+        }
+        return free;
+    }
+
+    /** Folds the counters of ended threads into {@code retired} and lets their nodes go. */
+    private void pruneEnded() {
+        for (Iterator<FreeList> it = all.iterator(); it.hasNext(); ) {
+            final FreeList free = it.next();
+            final Thread owner = free.owner.get();
+            if (owner == null || !owner.isAlive()) {
+                retired.hits += free.hits;
+                retired.misses += free.misses;
+                retired.released += free.released;
+                retired.discarded += free.discarded;
+                it.remove();
+            }
+        }
+    }
+
+    private static int length(Node head) {
+        int length = 0;
+        for (Node node = head; node != null; node = node.getNext()) {
+            length++;
+        }
+        return length;
+    }
+
+    /** Free nodes and counters of one thread; only that thread writes to it. */
+    private static final class FreeList {
+        private final WeakReference<Thread> owner;
+        private Node head;
+        private int size;
+        private long hits;
+        private long misses;
+        private long released;
+        private long discarded;
+
+        FreeList(Thread owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+
+        void splice(Node first, Node last, int count) {
+            last.setNext(head);
+            head = first;
+            size += count;
+            released += count;
+        }
+    }
+
+    /** Point-in-time counters of a pool. */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long released;
+        private final long discarded;
+        private final long pooled;
+
+        Stats(long hits, long misses, long released, long discarded, long pooled) {
+            this.hits = hits;
+            this.misses = misses;
+            this.released = released;
+            this.discarded = discarded;
+            this.pooled = pooled;
+        }
+
+        /** Acquires served from the free list. */
+        public long getHits() {
+            return hits;
+        }
+
+        /** Acquires that had to allocate a new node. */
+        public long getMisses() {
+            return misses;
+        }
+
+        /** Nodes returned to a free list. */
+        public long getReleased() {
+            return released;
+        }
+
+        /** Released nodes dropped because the pool was full. */
+        public long getDiscarded() {
+            return discarded;
+        }
+
+        /** Free nodes currently held. */
+        public long getPooled() {
+            return pooled;
+        }
+
+        /** Fraction of acquires served from the pool, or 0 if there were none. */
+        public double hitRate() {
+            final long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d misses=%d hitRate=%.3f released=%d discarded=%d pooled=%d",
+                    hits, misses, hitRate(), released, discarded, pooled);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.learning.model;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable singly linked list of ints. Every cell is itself a list: its
+ * value, the (shared) list after it, and its size.
+ *
+ * <p>No operation changes an existing list. Updates return a new version that
+ * copies only the cells in front of the change and links the copy to the
+ * unchanged suffix of the old version, which both versions then share:
+ * {@link #prepend(int)} and {@link #tail()} are O(1), and {@link #set},
+ * {@link #removeAt} and {@link #insert} copy {@code index} cells. Rotation
+ * changes the link out of the last cell and so copies the whole list.
+ *
+ * <p>All fields are final, so any version can be handed to other threads and
+ * read without synchronization.
+ */
+public final class PersistentList {
+    private static final PersistentList EMPTY = new PersistentList(0, null, 0);
+
+    private final int head;
+    private final PersistentList tail;
+    private final int size;
+
+    private PersistentList(int head, PersistentList tail, int size) {
+        this.head = head;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    public static PersistentList empty() {
+        return EMPTY;
+    }
+
+    public static PersistentList of(int... values) {
+        return prependAll(values, 0, values.length, EMPTY);
+    }
+
+    /** Copies the values of the acyclic chain starting at {@code head}. */
+    public static PersistentList copyOf(Node head) {
+        int length = 0;
+        for (Node node = head; node != null; node = node.getNext()) {
+            length++;
+        }
+        final int[] values = new int[length];
+        int i = 0;
+        for (Node node = head; node != null; node = node.getNext()) {
+            values[i++] = node.getData();
+        }
+        return of(values);
+    }
+
+    /** Returns a list with {@code value} in front of this one, sharing all of it. */
+    public PersistentList prepend(int value) {
+        return new PersistentList(value, this, size + 1);
+    }
+
+    /** First value. */
+    public int head() {
+        if (size == 0) {
+            throw new NoSuchElementException("empty list");
+        }
+        return head;
+    }
+
+    /** The list after the first value; shared, not copied. */
+    public PersistentList tail() {
+        if (size == 0) {
+            throw new NoSuchElementException("empty list");
+        }
+        return tail;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        checkIndex(index, size);
+        return drop(index).head;
+    }
+
+    /** The suffix starting at {@code count}; shared, not copied. */
+    public PersistentList drop(int count) {
+        checkIndex(count, size + 1);
+        PersistentList list = this;
+        for (int i = 0; i < count; i++) {
+            list = list.tail;
+        }
+        return list;
+    }
+
+    /** Returns a version with {@code value} at {@code index}, sharing the cells after it. */
+    public PersistentList set(int index, int value) {
+        checkIndex(index, size);
+        final int[] prefix = take(index);
+        return prependAll(prefix, 0, index, drop(index).tail.prepend(value));
+    }
+
+    /** Returns a version with {@code value} inserted before {@code index}, sharing the cells from it. */
+    public PersistentList insert(int index, int value) {
+        checkIndex(index, size + 1);
+        final int[] prefix = take(index);
+        return prependAll(prefix, 0, index, drop(index).prepend(value));
+    }
+
+    /** Returns a version without the value at {@code index}, sharing the cells after it. */
+    public PersistentList removeAt(int index) {
+        checkIndex(index, size);
+        final int[] prefix = take(index);
+        return prependAll(prefix, 0, index, drop(index).tail);
+    }
+
+    /** Returns this list rotated right by {@code k} places (negative k rotates left). */
+    public PersistentList rotateRight(int k) {
+        if (size == 0) {
+            return this;
+        }
+        final int shift = (int) Math.floorMod((long) k, (long) size);
+        if (shift == 0) {
+            return this;
+        }
+        final int[] values = toArray();
+        final int split = size - shift;
+        return prependAll(values, split, size, prependAll(values, 0, split, EMPTY));
+    }
+
+    public void forEach(IntConsumer action) {
+        for (PersistentList list = this; list.size > 0; list = list.tail) {
+            action.accept(list.head);
+        }
+    }
+
+    public int[] toArray() {
+        return take(size);
+    }
+
+    /** Copies this list into a fresh, mutable {@link Node} chain. */
+    public Node toNode() {
+        final Node dummy = new Node(0);
+        Node last = dummy;
+        for (PersistentList list = this; list.size > 0; list = list.tail) {
+            final Node node = new Node(list.head);
+            last.setNext(node);
+            last = node;
+        }
+        return dummy.getNext();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PersistentList)) {
+            return false;
+        }
+        PersistentList a = this;
+        PersistentList b = (PersistentList) o;
+        if (a.size != b.size) {
+            return false;
+        }
+        // Stop as soon as both sides reach the same shared suffix.
+        while (a != b) {
+            if (a.head != b.head) {
+                return false;
+            }
+            a = a.tail;
+            b = b.tail;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (PersistentList list = this; list.size > 0; list = list.tail) {
+            hash = 31 * hash + list.head;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (PersistentList list = this; list.size > 0; list = list.tail) {
+            sb.append(list.head);
+            if (list.size > 1) {
+                sb.append(", ");
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /** The first {@code count} values. */
+    private int[] take(int count) {
+        final int[] values = new int[count];
+        PersistentList list = this;
+        for (int i = 0; i < count; i++) {
+            values[i] = list.head;
+            list = list.tail;
+        }
+        return values;
+    }
+
+    /** {@code values[from, to)} in front of {@code rest}, built back to front. */
+    private static PersistentList prependAll(int[] values, int from, int to, PersistentList rest) {
+        PersistentList list = rest;
+        for (int i = to - 1; i >= from; i--) {
+            list = list.prepend(values[i]);
+        }
+        return list;
+    }
+
+    private static void checkIndex(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+}
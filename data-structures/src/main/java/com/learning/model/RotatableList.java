@@ -0,0 +1,119 @@
+package com.learning.model;
+
+/**
+ * Singly linked {@link Node} list whose rotations are recorded, not performed.
+ *
+ * <p>The list knows its head, tail and size, and keeps a pending right
+ * rotation {@code offset} in {@code [0, size)}. {@link #rotateRight(int)} and
+ * {@link #rotateLeft(int)} only update the offset, in O(1). The nodes are
+ * relinked once, when the list is read through {@link #getHead()} or changed
+ * by {@link #append(int)}: the chain is closed into a ring and opened again
+ * before the logical head, a single walk of at most {@code size} nodes no
+ * matter how many rotations were merged into the offset.
+ *
+ * <p>{@link #get(int)} maps the logical index onto the physical chain and
+ * never relinks.
+ */
+public class RotatableList {
+    private Node head;
+    private Node tail;
+    private int size;
+    private int offset;
+
+    public RotatableList() {
+    }
+
+    /** Takes over the acyclic chain starting at {@code head}, walking it once. */
+    public static RotatableList wrap(Node head) {
+        final RotatableList list = new RotatableList();
+        if (head != null) {
+            list.head = head;
+            Node node = head;
+            int size = 1;
+            while (node.getNext() != null) {
+                node = node.getNext();
+                size++;
+            }
+            list.tail = node;
+            list.size = size;
+        }
+        return list;
+    }
+
+    /** Rotates the list to the right by {@code k} places (negative k rotates left). */
+    public void rotateRight(int k) {
+        if (size == 0) {
+            return;
+        }
+        offset = (int) Math.floorMod(offset + (long) k, (long) size);
+    }
+
+    /** Rotates the list to the left by {@code k} places (negative k rotates right). */
+    public void rotateLeft(int k) {
+        rotateRight(-k);
+    }
+
+    /** Rotation applied to the stored chain on the next read, in {@code [0, size)}. */
+    public int pendingRotation() {
+        return offset;
+    }
+
+    /**
+     * Applies the pending rotation and returns the head of the resulting
+     * null-terminated list.
+     */
+    public Node getHead() {
+        materialize();
+        return head;
+    }
+
+    /** Returns the value at logical {@code index} without relinking. */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        int physical = index - offset;
+        if (physical < 0) {
+            physical += size;
+        }
+        Node node = head;
+        for (int i = 0; i < physical; i++) {
+            node = node.getNext();
+        }
+        return node.getData();
+    }
+
+    /** Appends {@code value} at the logical end of the list. */
+    public void append(int value) {
+        materialize();
+        final Node node = new Node(value);
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.setNext(node);
+        }
+        tail = node;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void materialize() {
+        if (offset == 0) {
+            return;
+        }
+
+        // Close the ring, then open it before the node that is logically first.
+        tail.setNext(head);
+        Node newTail = head;
+        for (int i = 1; i < size - offset; i++) {
+            newTail = newTail.getNext();
+        }
+        head = newTail.getNext();
+        newTail.setNext(null);
+        tail = newTail;
+        offset = 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.learning.patterns.linear.fastslowpointers;
+
+import com.learning.model.Node;
+
+/**
+ * Brent's cycle detection ("teleporting tortoise").
+ *
+ * <p>Only the hare moves. The tortoise waits at a checkpoint and jumps to the
+ * hare whenever the number of steps since the last jump reaches the current
+ * power of two, which then doubles. Once the hare lands on the tortoise, the
+ * steps taken since the last jump are exactly the cycle length, so no extra
+ * lap is needed. The cycle start is found by walking two pointers lambda apart.
+ *
+ * Time complexity: O(mu + lambda). Space complexity: O(1).
+ */
+final class BrentCycleDetector implements CycleDetector {
+
+	@Override
+	public Cycle detect(final Node head) {
+		final int lambda = cycleLength(head);
+		return lambda == 0 ? Cycle.NONE : Cycle.locate(head, lambda);
+	}
+
+	@Override
+	public boolean hasCycle(final Node head) {
+		return cycleLength(head) != 0;
+	}
+
+	@Override
+	public int cycleLength(final Node head) {
+		if (head == null) {
+			return 0;
+		}
+		Node tortoise = head;
+		Node hare = head.getNext();
+		int power = 1;
+		int lambda = 1;
+		while (hare != tortoise) {
+			if (hare == null) {
+				return 0;
+			}
+			if (power == lambda) {
+				tortoise = hare;
+				power <<= 1;
+				lambda = 0;
+			}
+			hare = hare.getNext();
+			lambda++;
+		}
+		return lambda;
+	}
+}
@@ -2,6 +2,10 @@ package com.learning.patterns.linear.fastslowpointers;
 
 import com.learning.utils.ArrayHelper;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
 /**
  * Detects whether a circular loop exists in an integer array under the
  * constraint that all steps in the loop must follow the same direction
@@ -13,9 +17,17 @@ import com.learning.utils.ArrayHelper;
  * processed indices we zero them out when the search from that index fails.
  *
  * Time complexity: O(n). Space complexity: O(1).
+ *
+ * <p>{@link #circularArrayLoopReadOnly(int[])} leaves the input untouched by
+ * recording visited indices in a side array, and
+ * {@link #circularArrayLoopParallel(int[])} additionally spreads the start
+ * indices across the common ForkJoinPool.
  */
 public class CircularArrayLoop {
 
+	/** Owner value of an index known not to lead into a valid loop. */
+	private static final int DONE = -1;
+
 	/**
 	 * Returns {@code true} if {@code nums} contains a valid circular loop as
 	 * defined above, otherwise {@code false}.
@@ -47,21 +59,152 @@ public class CircularArrayLoop {
                 }
 			}
 
-			// mark all nodes along this traversal as visited (set to 0)
+			// mark all nodes along this traversal as visited (set to 0); stop at the
+			// first node jumping the other way, whose own paths are still unexplored
 			int j = i;
 			while (true) {
-				int next = nextIndex(nums, j, nums[j] > 0);
+				int next = nextIndex(nums, j, direction);
 				if (next == -1) {
                     break;
                 }
 				nums[j] = 0;
 				j = next;
 			}
-			nums[j] = 0;
+			if (nums[j] != 0 && (nums[j] > 0) == direction) {
+				nums[j] = 0;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Same result as {@link #circularArrayLoop(int[])} without modifying
+	 * {@code nums}.
+	 *
+	 * <p>Each walk stamps the indices it passes with its own number (start index
+	 * + 1). Reaching an index stamped by the current walk closes a loop;
+	 * reaching one stamped by an earlier walk means the rest of the path was
+	 * already explored without finding a loop. Only indices whose jump has the
+	 * walk's direction are stamped, so a stamp always describes the whole
+	 * continuation from that index.
+	 *
+	 * Time complexity: O(n). Space complexity: O(n) for the stamps.
+	 */
+	public boolean circularArrayLoopReadOnly(int[] nums) {
+		if (nums == null || nums.length < 2) return false;
+
+		final int n = nums.length;
+		final int[] visitedBy = new int[n];
+		for (int i = 0; i < n; i++) {
+			if (visitedBy[i] != 0 || nums[i] == 0) {
+				continue;
+			}
+
+			final int stamp = i + 1;
+			final boolean direction = nums[i] > 0;
+			int j = i;
+			while (true) {
+				visitedBy[j] = stamp;
+				int next = nextIndex(nums, j, direction);
+				if (next == -1 || nums[next] == 0 || (nums[next] > 0) != direction) {
+					break;
+				}
+				if (visitedBy[next] == stamp) {
+					return true; // came back to this walk: a loop
+				}
+				if (visitedBy[next] != 0) {
+					break; // joins a path already explored without a loop
+				}
+				j = next;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Same result as {@link #circularArrayLoop(int[])} without modifying
+	 * {@code nums}, checking start indices in parallel on the common ForkJoinPool.
+	 *
+	 * <p>Indices are claimed with CAS in a shared owner array. A walk that runs
+	 * into an index owned by a walk with a smaller number stops and leaves the
+	 * rest of the path to it; one that finds a larger number takes the index
+	 * over. The smallest-numbered walk reaching a loop therefore never stops
+	 * early and eventually meets its own claim. Walks that reach a dead end
+	 * mark their path {@code DONE} so later walks stop there immediately.
+	 */
+	public boolean circularArrayLoopParallel(int[] nums) {
+		if (nums == null || nums.length < 2) return false;
+
+		final AtomicIntegerArray owner = new AtomicIntegerArray(nums.length);
+		final AtomicBoolean found = new AtomicBoolean();
+		return IntStream.range(0, nums.length)
+				.parallel()
+				.anyMatch(i -> walk(nums, owner, found, i));
+	}
+
+	/** Result of trying to claim an index for a walk. */
+	private enum Claim { CLAIMED, OWN, YIELD, DONE }
+
+	private boolean walk(int[] nums, AtomicIntegerArray owner, AtomicBoolean found, int start) {
+		if (nums[start] == 0 || claim(owner, start, start + 1) != Claim.CLAIMED) {
+			return false;
+		}
+
+		final int token = start + 1;
+		final boolean direction = nums[start] > 0;
+		int j = start;
+		while (!found.get()) {
+			int next = nextIndex(nums, j, direction);
+			if (next == -1 || nums[next] == 0 || (nums[next] > 0) != direction) {
+				markDone(nums, owner, start, j, direction);
+				return false;
+			}
+			switch (claim(owner, next, token)) {
+				case OWN:
+					found.set(true);
+					return true;
+				case DONE:
+					markDone(nums, owner, start, j, direction);
+					return false;
+				case YIELD:
+					return false; // a smaller-numbered walk owns the continuation
+				default:
+					j = next;
+			}
 		}
 		return false;
 	}
 
+	private Claim claim(AtomicIntegerArray owner, int index, int token) {
+		while (true) {
+			int current = owner.get(index);
+			if (current == DONE) {
+				return Claim.DONE;
+			}
+			if (current == token) {
+				return Claim.OWN;
+			}
+			if (current != 0 && current < token) {
+				return Claim.YIELD;
+			}
+			if (owner.compareAndSet(index, current, token)) {
+				return Claim.CLAIMED;
+			}
+		}
+	}
+
+	/** Marks every index from {@code start} up to and including {@code last} as {@code DONE}. */
+	private void markDone(int[] nums, AtomicIntegerArray owner, int start, int last, boolean direction) {
+		int j = start;
+		while (true) {
+			owner.set(j, DONE);
+			if (j == last) {
+				return;
+			}
+			j = nextIndex(nums, j, direction);
+		}
+	}
+
 	/**
 	 * Returns the next index to move to from {@code idx} if the movement
 	 * preserves direction {@code direction} and isn't a single-element loop. Returns
@@ -97,5 +240,10 @@ public class CircularArrayLoop {
 		int[] ex3 = new int[]{-2, 1, -1, -2, -2}; // false
 		System.out.print("Input: "); ArrayHelper.printArray(ex3);
 		System.out.println("Has loop: " + solver.circularArrayLoop(ex3));
+
+		int[] ex4 = new int[]{2, -1, 1, 2, 2}; // true, input left unchanged
+		System.out.println("Has loop (read-only): " + solver.circularArrayLoopReadOnly(ex4)
+				+ ", parallel: " + solver.circularArrayLoopParallel(ex4));
+		System.out.print("Input after read-only checks: "); ArrayHelper.printArray(ex4);
 	}
 }
@@ -0,0 +1,71 @@
+package com.learning.patterns.linear.fastslowpointers;
+
+import com.learning.model.Node;
+
+/**
+ * Result of running a {@link CycleDetector} over a linked list.
+ *
+ * <p>For a list whose first repeated node is reached after {@code mu} steps
+ * from the head and whose loop contains {@code lambda} nodes, the cycle starts
+ * at node index {@code mu} (0-based) and has length {@code lambda}. Acyclic
+ * lists are reported by {@link #NONE}.
+ */
+public final class Cycle {
+
+	/** Result for an acyclic (or empty) list. */
+	public static final Cycle NONE = new Cycle(null, -1, 0);
+
+	private final Node start;
+	private final int mu;
+	private final int lambda;
+
+	Cycle(final Node start, final int mu, final int lambda) {
+		this.start = start;
+		this.mu = mu;
+		this.lambda = lambda;
+	}
+
+	/** Returns {@code true} if the list contains a cycle. */
+	public boolean exists() {
+		return start != null;
+	}
+
+	/** Returns the first node of the cycle, or {@code null} if there is none. */
+	public Node getStart() {
+		return start;
+	}
+
+	/** Returns the 0-based index of the cycle start (mu), or {@code -1} if there is no cycle. */
+	public int getStartIndex() {
+		return mu;
+	}
+
+	/** Returns the number of nodes in the cycle (lambda), or {@code 0} if there is none. */
+	public int getLength() {
+		return lambda;
+	}
+
+	/**
+	 * Given the cycle length, finds the cycle start by walking two pointers
+	 * {@code lambda} nodes apart from {@code head} until they meet.
+	 */
+	static Cycle locate(final Node head, final int lambda) {
+		Node lead = head;
+		for (int i = 0; i < lambda; i++) {
+			lead = lead.getNext();
+		}
+		Node trail = head;
+		int mu = 0;
+		while (trail != lead) {
+			trail = trail.getNext();
+			lead = lead.getNext();
+			mu++;
+		}
+		return new Cycle(trail, mu, lambda);
+	}
+
+	@Override
+	public String toString() {
+		return exists() ? "Cycle{mu=" + mu + ", lambda=" + lambda + "}" : "Cycle{none}";
+	}
+}
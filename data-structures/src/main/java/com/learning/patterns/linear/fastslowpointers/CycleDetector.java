@@ -0,0 +1,45 @@
+package com.learning.patterns.linear.fastslowpointers;
+
+import com.learning.model.Node;
+
+/**
+ * Strategy for finding a cycle in a singly linked list.
+ *
+ * <p>{@link #detect(Node)} reports both the cycle start (mu) and the cycle
+ * length (lambda) in one call. Callers that need only one of the answers can
+ * use {@link #hasCycle(Node)} or {@link #cycleLength(Node)}, which
+ * implementations override when they can skip part of the work.
+ *
+ * <p>Available engines:
+ * <ul>
+ *   <li>{@link #FLOYD} — tortoise and hare; the cheapest way to answer "is there a cycle?".</li>
+ *   <li>{@link #BRENT} — teleporting tortoise; finds lambda directly and makes
+ *       noticeably fewer {@code getNext()} hops on long tails.</li>
+ *   <li>{@link #GOSPER} — compares against a log-sized table of earlier
+ *       nodes; finds lambda exactly without ever revisiting a node.</li>
+ * </ul>
+ * All implementations are stateless and safe to share between threads.
+ */
+public interface CycleDetector {
+
+	CycleDetector FLOYD = new FloydCycleDetector();
+	CycleDetector BRENT = new BrentCycleDetector();
+	CycleDetector GOSPER = new GosperCycleDetector();
+
+	/**
+	 * Returns the cycle of the list starting at {@code head}, or {@link Cycle#NONE}.
+	 *
+	 * @param head head of the list; may be {@code null}
+	 */
+	Cycle detect(Node head);
+
+	/** Returns {@code true} if the list starting at {@code head} contains a cycle. */
+	default boolean hasCycle(final Node head) {
+		return detect(head).exists();
+	}
+
+	/** Returns the length of the cycle of the list starting at {@code head}, or {@code 0}. */
+	default int cycleLength(final Node head) {
+		return detect(head).getLength();
+	}
+}
@@ -0,0 +1,244 @@
+package com.learning.patterns.linear.fastslowpointers;
+
+import com.learning.model.IntIntHashMap;
+import com.learning.utils.ArrayHelper;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Finds every duplicated value in a large input together with how often it
+ * occurs. Unlike {@link FindDuplicateNumber}, values may lie in any range and
+ * any number of them may repeat.
+ *
+ * <p>Approach: one bit per value of the range {@code [min, max]} records that
+ * a value has been seen. The bitmap is an {@link AtomicLongArray} shared by
+ * all threads; a value's bit is read first and only set with a CAS when it is
+ * still clear, so repeated values never write to shared memory. A value whose
+ * bit is already set is a repeat and is counted in a thread-local
+ * {@link IntIntHashMap}; the maps are merged once per task at the end.
+ *
+ * <p>Input can be an array, an {@link IntStream} (processed in parallel if the
+ * stream is parallel) or chunks pushed into a {@link ChunkCollector} from any
+ * number of threads as data arrives.
+ *
+ * Time complexity: O(n / p + d log d) for n values, p threads and d distinct
+ * duplicates. Space complexity: (max - min + 1) / 8 bytes for the bitmap plus
+ * O(d) per task.
+ */
+public class FindAllDuplicates {
+
+	/**
+	 * Returns every value that occurs more than once in {@code nums}, scanning
+	 * the array in parallel on the common ForkJoinPool.
+	 */
+	public Duplicates findAll(final int[] nums) {
+		if (nums == null || nums.length < 2) {
+			return Duplicates.NONE;
+		}
+
+		final IntSummaryStatistics range = Arrays.stream(nums).parallel().summaryStatistics();
+		return findAll(Arrays.stream(nums).parallel(), range.getMin(), range.getMax());
+	}
+
+	/**
+	 * Consumes {@code values}, all of which must lie in {@code [min, max]}, and
+	 * returns every value that occurs more than once.
+	 *
+	 * @throws IllegalArgumentException if a value is outside {@code [min, max]}
+	 */
+	public Duplicates findAll(IntStream values, int min, int max) {
+		final SeenBitmap seen = new SeenBitmap(min, max);
+		final Partial result = values.collect(() -> new Partial(seen), Partial::accept, Partial::merge);
+		return Duplicates.from(result.repeats);
+	}
+
+	/**
+	 * Returns a collector for values in {@code [min, max]} that accepts input
+	 * chunk by chunk.
+	 */
+	public ChunkCollector collector(int min, int max) {
+		return new ChunkCollector(new SeenBitmap(min, max));
+	}
+
+	/**
+	 * Accumulates chunks of values. {@link #accept(int[], int, int)} may be
+	 * called concurrently from several threads; each call merges its repeats
+	 * into the shared result once, when the chunk is done.
+	 */
+	public static final class ChunkCollector {
+		private final SeenBitmap seen;
+		private final IntIntHashMap repeats = new IntIntHashMap();
+
+		private ChunkCollector(SeenBitmap seen) {
+			this.seen = seen;
+		}
+
+		public void accept(int[] chunk) {
+			accept(chunk, 0, chunk.length);
+		}
+
+		/** Adds {@code chunk[from, to)}. */
+		public void accept(int[] chunk, int from, int to) {
+			final Partial partial = new Partial(seen);
+			for (int i = from; i < to; i++) {
+				partial.accept(chunk[i]);
+			}
+			synchronized (this) {
+				repeats.addAll(partial.repeats);
+			}
+		}
+
+		/** Returns the duplicates among all values accepted so far. */
+		public synchronized Duplicates result() {
+			return Duplicates.from(repeats);
+		}
+	}
+
+	/** Duplicated values in ascending order, each with its number of occurrences. */
+	public static final class Duplicates {
+		static final Duplicates NONE = new Duplicates(new int[0], new int[0]);
+
+		private final int[] values;
+		private final int[] counts;
+
+		private Duplicates(int[] values, int[] counts) {
+			this.values = values;
+			this.counts = counts;
+		}
+
+		/** Builds the result from a map of value to occurrences beyond the first. */
+		static Duplicates from(IntIntHashMap repeats) {
+			if (repeats.size() == 0) {
+				return NONE;
+			}
+
+			// Pack value (high half) and count (low half) so one sort orders by value.
+			final long[] packed = new long[repeats.size()];
+			final int[] cursor = {0};
+			repeats.forEach((value, extra) -> packed[cursor[0]++] = ((long) value << 32) | (extra + 1));
+			Arrays.sort(packed);
+
+			final int[] values = new int[packed.length];
+			final int[] counts = new int[packed.length];
+			for (int i = 0; i < packed.length; i++) {
+				values[i] = (int) (packed[i] >> 32);
+				counts[i] = (int) packed[i];
+			}
+			return new Duplicates(values, counts);
+		}
+
+		/** Number of distinct duplicated values. */
+		public int size() {
+			return values.length;
+		}
+
+		public int getValue(int i) {
+			return values[i];
+		}
+
+		/** Total occurrences of {@link #getValue(int) getValue(i)}, always at least 2. */
+		public int getCount(int i) {
+			return counts[i];
+		}
+
+		public int[] values() {
+			return values.clone();
+		}
+
+		public int[] counts() {
+			return counts.clone();
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder sb = new StringBuilder("[");
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					sb.append(", ");
+				}
+				sb.append(values[i]).append('x').append(counts[i]);
+			}
+			return sb.append(']').toString();
+		}
+	}
+
+	/** One bit per value of {@code [min, max]}, shared by all threads. */
+	private static final class SeenBitmap {
+		private final long min;
+		private final long span;
+		private final AtomicLongArray words;
+
+		SeenBitmap(int min, int max) {
+			if (min > max) {
+				throw new IllegalArgumentException("min > max: " + min + " > " + max);
+			}
+			this.min = min;
+			this.span = (long) max - min;
+			this.words = new AtomicLongArray((int) ((span >>> 6) + 1));
+		}
+
+		/** Marks {@code value} as seen; returns {@code true} if it was not seen before. */
+		boolean markSeen(int value) {
+			final long offset = value - min;
+			if (offset < 0 || offset > span) {
+				throw new IllegalArgumentException(
+						"Value " + value + " outside [" + min + ", " + (min + span) + "]");
+			}
+
+			final int word = (int) (offset >>> 6);
+			final long bit = 1L << offset;
+			long current = words.get(word);
+			while ((current & bit) == 0) {
+				final long witness = words.compareAndExchange(word, current, current | bit);
+				if (witness == current) {
+					return true;
+				}
+				current = witness;
+			}
+			return false;
+		}
+	}
+
+	/** Per-task state: the shared bitmap and this task's repeat counts. */
+	private static final class Partial {
+		private final SeenBitmap seen;
+		private final IntIntHashMap repeats = new IntIntHashMap();
+
+		Partial(SeenBitmap seen) {
+			this.seen = seen;
+		}
+
+		void accept(int value) {
+			if (!seen.markSeen(value)) {
+				repeats.addTo(value, 1);
+			}
+		}
+
+		void merge(Partial other) {
+			repeats.addAll(other.repeats);
+		}
+	}
+
+	public static void main(String[] args) {
+		final FindAllDuplicates solver = new FindAllDuplicates();
+
+		int[] example1 = new int[]{4, 3, 2, 7, 8, 2, 3, 1, 3};
+		System.out.print("Input: ");
+		ArrayHelper.printArray(example1);
+		System.out.println("Duplicates (value x count): " + solver.findAll(example1));
+
+		int[] example2 = new int[]{-5, 1_000_000, -5, 42};
+		System.out.print("Input: ");
+		ArrayHelper.printArray(example2);
+		System.out.println("Duplicates (value x count): " + solver.findAll(example2));
+
+		final ChunkCollector collector = solver.collector(0, 9);
+		collector.accept(new int[]{1, 2, 3});
+		collector.accept(new int[]{3, 4, 1});
+		collector.accept(new int[]{1});
+		System.out.println("Chunked input duplicates: " + collector.result());
+	}
+}
@@ -1,6 +1,7 @@
 package com.learning.patterns.linear.fastslowpointers;
 
 import com.learning.model.Node;
+import com.learning.model.NodeArena;
 import com.learning.utils.LinkedListHelper;
 
 /**
@@ -13,9 +14,24 @@ import com.learning.utils.LinkedListHelper;
  * Time complexity: O(n) — detection and counting traverse nodes at most a
  * constant multiple of n.
  * Space complexity: O(1).
+ *
+ * <p>The traversal is delegated to a {@link CycleDetector}; Floyd's algorithm
+ * is used unless another engine is passed to the constructor. {@link
+ * CycleDetector#BRENT} measures the length during detection and skips the
+ * extra lap around the loop.
  */
 public class FindCycleLength {
 
+	private final CycleDetector detector;
+
+	public FindCycleLength() {
+		this(CycleDetector.FLOYD);
+	}
+
+	public FindCycleLength(final CycleDetector detector) {
+		this.detector = detector;
+	}
+
 	/**
 	 * Returns the length of the cycle in {@code head}, or {@code 0} if there is no cycle.
 	 *
@@ -23,30 +39,39 @@ public class FindCycleLength {
 	 * {@code null} or acyclic lists.
 	 */
 	public int findCycleLength(final Node head) {
-		if (head == null || head.getNext() == null) {
+		return detector.cycleLength(head);
+	}
+
+	/**
+	 * Arena variant of {@link #findCycleLength(Node)} for a list stored in {@code arena}.
+	 *
+	 * @param arena storage holding the list
+	 * @param head index of the head node; may be {@link NodeArena#NIL}
+	 * @return the cycle length, or {@code 0} if there is no cycle
+	 */
+	public int findCycleLength(final NodeArena arena, final int head) {
+		if (head == NodeArena.NIL || arena.getNext(head) == NodeArena.NIL) {
 			return 0;
 		}
 
-		Node slow = head;
-		Node fast = head;
+		int slow = head;
+		int fast = head;
 
-		// Detect cycle using Floyd's algorithm
-		while (fast != null && fast.getNext() != null) {
-			slow = slow.getNext();
-			fast = fast.getNext().getNext();
+		while (fast != NodeArena.NIL && arena.getNext(fast) != NodeArena.NIL) {
+			slow = arena.getNext(slow);
+			fast = arena.getNext(arena.getNext(fast));
 
 			if (slow == fast) {
-				// Count the cycle length
 				int length = 1;
-				Node current = slow.getNext();
+				int current = arena.getNext(slow);
 				while (current != slow) {
 					length++;
-					current = current.getNext();
+					current = arena.getNext(current);
 				}
 				return length;
 			}
 		}
-		return 0; // no cycle
+		return 0;
 	}
 
 	public static void main(String[] args) {
@@ -68,5 +93,6 @@ public class FindCycleLength {
 
 		System.out.println("Created a cycle (tail -> node with value 20)");
 		System.out.println("Cycle length: " + solver.findCycleLength(cyclic));
+		System.out.println("Cycle length (Brent): " + new FindCycleLength(CycleDetector.BRENT).findCycleLength(cyclic));
 	}
 }
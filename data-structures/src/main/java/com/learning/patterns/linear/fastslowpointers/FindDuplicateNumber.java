@@ -7,8 +7,10 @@ import com.learning.utils.ArrayHelper;
  * is between 1 and n (inclusive).
  *
  * <p>Approach: interpret the array as a linked-list-like mapping from index
- * to value and use Floyd's Tortoise and Hare cycle detection to find the
- * entry point of the cycle which corresponds to the duplicate value.
+ * to value, f(i) = nums[i]. Starting from index 0 (which no value points
+ * back to) the sequence must enter a cycle, and the entry point of that cycle
+ * is the value two indices point to: the duplicate. The entry is found with
+ * {@link FunctionalCycleFinder}.
  *
  * Time complexity: O(n). Space complexity: O(1).
  *
@@ -25,21 +27,7 @@ public class FindDuplicateNumber {
 			return -1;
 		}
 
-		// Phase 1: find intersection point of two runners.
-		int slow = nums[0];
-		int fast = nums[0];
-		do {
-			slow = nums[slow];
-			fast = nums[nums[fast]];
-		} while (slow != fast);
-
-		// Phase 2: find the entrance to the cycle.
-		int finder = nums[0];
-		while (finder != slow) {
-			finder = nums[finder];
-			slow = nums[slow];
-		}
-		return finder;
+		return FunctionalCycleFinder.cycleEntry(0, i -> nums[i]);
 	}
 
 	public static void main(String[] args) {
@@ -0,0 +1,85 @@
+package com.learning.patterns.linear.fastslowpointers;
+
+import com.learning.model.Node;
+
+/**
+ * Floyd's tortoise and hare.
+ *
+ * <p>The hare moves two nodes per step and the tortoise one; inside a cycle
+ * they must meet. Restarting one pointer from the head and moving both one
+ * node at a time then meets at the cycle start, and one more lap from there
+ * measures the length.
+ *
+ * Time complexity: O(mu + lambda). Space complexity: O(1).
+ */
+final class FloydCycleDetector implements CycleDetector {
+
+	@Override
+	public Cycle detect(final Node head) {
+		final Node meeting = meetingPoint(head);
+		if (meeting == null) {
+			return Cycle.NONE;
+		}
+
+		Node ptr1 = head;
+		Node ptr2 = meeting;
+		int mu = 0;
+		while (ptr1 != ptr2) {
+			ptr1 = ptr1.getNext();
+			ptr2 = ptr2.getNext();
+			mu++;
+		}
+
+		int lambda = 1;
+		for (Node current = ptr1.getNext(); current != ptr1; current = current.getNext()) {
+			lambda++;
+		}
+		return new Cycle(ptr1, mu, lambda);
+	}
+
+	@Override
+	public boolean hasCycle(final Node head) {
+		if (head == null || head.getNext() == null) {
+			return false;
+		}
+		Node slow = head;
+		Node fast = head.getNext();
+
+		while (fast != null && fast.getNext() != null) {
+			slow = slow.getNext();
+			fast = fast.getNext().getNext();
+
+			if (slow == fast) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public int cycleLength(final Node head) {
+		final Node meeting = meetingPoint(head);
+		if (meeting == null) {
+			return 0;
+		}
+		int length = 1;
+		for (Node current = meeting.getNext(); current != meeting; current = current.getNext()) {
+			length++;
+		}
+		return length;
+	}
+
+	/** Returns a node inside the cycle where tortoise and hare meet, or {@code null}. */
+	private static Node meetingPoint(final Node head) {
+		Node slow = head;
+		Node fast = head;
+		while (fast != null && fast.getNext() != null) {
+			slow = slow.getNext();
+			fast = fast.getNext().getNext();
+			if (slow == fast) {
+				return slow;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,121 @@
+package com.learning.patterns.linear.fastslowpointers;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Cycle detection on the sequence x0, f(x0), f(f(x0)), ... of an int function.
+ *
+ * <p>Any function from a finite set to itself eventually repeats, so the
+ * sequence is a tail of {@code mu} values followed by a loop of {@code lambda}
+ * values. Happy numbers (f = sum of squared digits), the duplicate number
+ * (f(i) = nums[i]) and periods of hash or PRNG step functions are all
+ * instances of this problem.
+ *
+ * <p>All methods use Brent's algorithm, which evaluates {@code f} fewer times
+ * than Floyd's because only one pointer moves. Results are returned as
+ * primitives ({@link #find} packs mu and lambda into one {@code long}), so no
+ * call allocates. The methods are small and static: once a call site is
+ * inlined the JIT sees a single function type and inlines {@code f} as well.
+ *
+ * <p>Counts are reported as unsigned 32-bit values, which is enough for any
+ * function over {@code int} whose sequence has fewer than 2^32 distinct values.
+ *
+ * Time complexity: O(mu + lambda) evaluations of {@code f}. Space complexity: O(1).
+ */
+public final class FunctionalCycleFinder {
+
+	private FunctionalCycleFinder() {
+	}
+
+	/**
+	 * Returns mu and lambda of the sequence starting at {@code x0}, packed into
+	 * one {@code long}; unpack with {@link #mu(long)} and {@link #lambda(long)}.
+	 */
+	public static long find(final int x0, final IntUnaryOperator f) {
+		final int lambda = cycleLength(x0, f);
+
+		int lead = x0;
+		for (int i = 0; i != lambda; i++) {
+			lead = f.applyAsInt(lead);
+		}
+		int trail = x0;
+		int mu = 0;
+		while (trail != lead) {
+			trail = f.applyAsInt(trail);
+			lead = f.applyAsInt(lead);
+			mu++;
+		}
+		return ((long) mu << 32) | (lambda & 0xFFFF_FFFFL);
+	}
+
+	/** Returns the number of values before the loop starts, from a {@link #find} result. */
+	public static long mu(final long packed) {
+		return packed >>> 32;
+	}
+
+	/** Returns the number of values in the loop, from a {@link #find} result. */
+	public static long lambda(final long packed) {
+		return packed & 0xFFFF_FFFFL;
+	}
+
+	/**
+	 * Returns the first value of the sequence that is repeated, i.e. the value
+	 * at index mu where the loop is entered.
+	 */
+	public static int cycleEntry(final int x0, final IntUnaryOperator f) {
+		final int lambda = cycleLength(x0, f);
+
+		int lead = x0;
+		for (int i = 0; i != lambda; i++) {
+			lead = f.applyAsInt(lead);
+		}
+		int trail = x0;
+		while (trail != lead) {
+			trail = f.applyAsInt(trail);
+			lead = f.applyAsInt(lead);
+		}
+		return trail;
+	}
+
+	/**
+	 * Returns some value on the loop, without locating where the loop starts.
+	 * This is the cheapest query and enough when the loop is known to be
+	 * recognisable by any of its members (e.g. the fixed point 1 for happy numbers).
+	 */
+	public static int cycleMember(final int x0, final IntUnaryOperator f) {
+		int tortoise = x0;
+		int hare = f.applyAsInt(x0);
+		int power = 1;
+		int lambda = 1;
+		while (tortoise != hare) {
+			if (power == lambda) {
+				tortoise = hare;
+				power <<= 1;
+				lambda = 0;
+			}
+			hare = f.applyAsInt(hare);
+			lambda++;
+		}
+		return hare;
+	}
+
+	/**
+	 * Returns lambda as an unsigned int (Brent's power-of-two search).
+	 */
+	private static int cycleLength(final int x0, final IntUnaryOperator f) {
+		int tortoise = x0;
+		int hare = f.applyAsInt(x0);
+		int power = 1;
+		int lambda = 1;
+		while (tortoise != hare) {
+			if (power == lambda) {
+				tortoise = hare;
+				power <<= 1;
+				lambda = 0;
+			}
+			hare = f.applyAsInt(hare);
+			lambda++;
+		}
+		return lambda;
+	}
+}
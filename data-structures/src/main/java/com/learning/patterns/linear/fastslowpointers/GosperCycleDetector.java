@@ -0,0 +1,54 @@
+package com.learning.patterns.linear.fastslowpointers;
+
+import com.learning.model.Node;
+
+/**
+ * Gosper's cycle detection (HAKMEM item 132).
+ *
+ * <p>A single pointer walks the list. The node visited at step {@code k} is
+ * compared against a table of at most 64 earlier nodes, then stored in slot
+ * {@code numberOfTrailingZeros(k + 1)}, so the table always holds nodes at
+ * exponentially spaced distances behind the current one. The first match is at
+ * distance exactly lambda. The cycle start is found by walking two pointers
+ * lambda apart.
+ *
+ * Time complexity: O((mu + lambda) log(mu + lambda)) comparisons but only
+ * O(mu + lambda) {@code getNext()} hops. Space complexity: O(log(mu + lambda)).
+ */
+final class GosperCycleDetector implements CycleDetector {
+
+	private static final int TABLE_SIZE = Long.SIZE;
+
+	@Override
+	public Cycle detect(final Node head) {
+		final int lambda = cycleLength(head);
+		return lambda == 0 ? Cycle.NONE : Cycle.locate(head, lambda);
+	}
+
+	@Override
+	public boolean hasCycle(final Node head) {
+		return cycleLength(head) != 0;
+	}
+
+	@Override
+	public int cycleLength(final Node head) {
+		final Node[] table = new Node[TABLE_SIZE];
+		final long[] steps = new long[TABLE_SIZE];
+
+		Node current = head;
+		for (long k = 0; current != null; k++) {
+			// slots 0..floor(log2 k) have all been written by step k
+			final int filled = k == 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(k);
+			for (int i = 0; i < filled; i++) {
+				if (table[i] == current) {
+					return (int) (k - steps[i]);
+				}
+			}
+			final int slot = Long.numberOfTrailingZeros(k + 1);
+			table[slot] = current;
+			steps[slot] = k;
+			current = current.getNext();
+		}
+		return 0;
+	}
+}
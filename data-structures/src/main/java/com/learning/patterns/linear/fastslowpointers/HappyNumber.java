@@ -1,22 +1,56 @@
 package com.learning.patterns.linear.fastslowpointers;
 
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
 /**
- * Determines whether a number is "happy" using Floyd's cycle-finding
- * algorithm applied to the repeated sum-of-squares-of-digits function.
+ * Determines whether a number is "happy" using cycle finding applied to the
+ * repeated sum-of-squares-of-digits function.
  *
  * <p>Algorithm summary:
  * <ul>
  *   <li>Define f(x) = sum of squares of digits of x.</li>
- *   <li>Use two pointers (slow and fast) advancing by f(x) and f(f(x)).</li>
- *   <li>If they meet at 1 the number is happy; if they meet elsewhere,
- *   a cycle exists and the number is not happy.</li>
+ *   <li>The sequence n, f(n), f(f(n)), ... must eventually loop; find a value
+ *   on that loop with {@link FunctionalCycleFinder} (Brent's variant of the
+ *   fast/slow pointer idea).</li>
+ *   <li>If the loop is the fixed point 1 the number is happy; any other loop
+ *   means the number is not happy.</li>
  * </ul>
  *
  * Time complexity: O(log n * t) where t is number of iterations until cycle,
  * since each f(x) operates on digits. Space complexity: O(1).
+ *
+ * <p>Bulk classification: one application of f maps any {@code long} to at most
+ * 19 * 81 = 1539, and x is happy exactly when f(x) is. {@link #classify(long, long)}
+ * therefore answers every number with a single digit-square step followed by a
+ * lookup in a precomputed table, and splits the range across a ForkJoinPool.
  */
 public class HappyNumber {
 
+	/** Largest value of f(x) over all {@code long}: 19 digits of 9. */
+	private static final int MAX_DIGIT_SQUARE_SUM = 19 * 81;
+
+	/** HAPPY[s] is {@code true} when s (and therefore every x with f(x) == s) is happy. */
+	private static final boolean[] HAPPY = new boolean[MAX_DIGIT_SQUARE_SUM + 1];
+
+	/** Digit-square sums of 0..9999, so f(x) can be computed four digits at a time. */
+	private static final int CHUNK = 10_000;
+	private static final int[] CHUNK_DIGIT_SQUARES = new int[CHUNK];
+
+	/** Minimum number of bitmap words (64 numbers each) a fork-join task handles alone. */
+	private static final int WORDS_PER_TASK = 4096;
+
+	static {
+		for (int i = 0; i < CHUNK; i++) {
+			CHUNK_DIGIT_SQUARES[i] = next(i);
+		}
+		for (int s = 1; s <= MAX_DIGIT_SQUARE_SUM; s++) {
+			HAPPY[s] = FunctionalCycleFinder.cycleMember(s, HappyNumber::next) == 1;
+		}
+	}
+
 	/**
 	 * Returns {@code true} if {@code n} is a happy number.
 	 *
@@ -40,18 +74,116 @@ public class HappyNumber {
 			return false;
 		}
 
-		int slow = n;
-		int fast = n;
+		return FunctionalCycleFinder.cycleMember(n, HappyNumber::next) == 1;
+	}
+
+	/**
+	 * Returns {@code true} if {@code n} is a happy number, answered with one
+	 * digit-square step and a table lookup.
+	 *
+	 * @param n a positive integer to test
+	 */
+	public boolean isHappy(long n) {
+		return n > 0 && HAPPY[digitSquareSum(n)];
+	}
+
+	/**
+	 * Classifies every number in {@code [from, to)} using the common ForkJoinPool.
+	 *
+	 * @return bitmap where bit {@code i} (word {@code i >>> 6}, bit {@code i & 63})
+	 *         is set when {@code from + i} is happy; wrap with
+	 *         {@link BitSet#valueOf(long[])} for a {@code BitSet} view
+	 * @throws IllegalArgumentException if {@code to < from} or the range needs
+	 *         more than {@code Integer.MAX_VALUE} words
+	 */
+	public long[] classify(long from, long to) {
+		return classify(from, to, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Same as {@link #classify(long, long)} but runs on the given {@code pool}.
+	 */
+	public long[] classify(long from, long to, ForkJoinPool pool) {
+		if (to < from) {
+			throw new IllegalArgumentException("to < from: [" + from + ", " + to + ")");
+		}
+		final long count = to - from;
+		if (count < 0 || (count + 63) >>> 6 > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Range too large: [" + from + ", " + to + ")");
+		}
+
+		final long[] bits = new long[(int) ((count + 63) >>> 6)];
+		pool.invoke(new ClassifyTask(bits, from, to, 0, bits.length));
+		return bits;
+	}
+
+	/**
+	 * Fills words {@code [fromWord, toWord)} of the bitmap. Tasks own whole words,
+	 * so no two threads ever write to the same {@code long}.
+	 */
+	@SuppressWarnings("serial")
+	private static final class ClassifyTask extends RecursiveAction {
+		private final long[] bits;
+		private final long origin;
+		private final long end;
+		private final int fromWord;
+		private final int toWord;
 
-		do {
-			slow = next(slow);
-			fast = next(next(fast));
-		} while (slow != fast);
+		ClassifyTask(long[] bits, long origin, long end, int fromWord, int toWord) {
+			this.bits = bits;
+			this.origin = origin;
+			this.end = end;
+			this.fromWord = fromWord;
+			this.toWord = toWord;
+		}
 
-		return slow == 1;
+		@Override
+		protected void compute() {
+			if (toWord - fromWord <= WORDS_PER_TASK) {
+				fill(bits, origin, end, fromWord, toWord);
+				return;
+			}
+			final int mid = (fromWord + toWord) >>> 1;
+			invokeAll(new ClassifyTask(bits, origin, end, fromWord, mid),
+					new ClassifyTask(bits, origin, end, mid, toWord));
+		}
 	}
 
-	private int next(int x) {
+	private static void fill(long[] bits, long origin, long end, int fromWord, int toWord) {
+		final long first = Math.max(origin + ((long) fromWord << 6), 1); // non-positive numbers are never happy
+		final long span = (long) toWord << 6;
+		final long last = span >= end - origin ? end : origin + span;
+		if (first >= last) {
+			return;
+		}
+
+		// x = high * CHUNK + low: f(x) = f(high) + f(low), and f(high) only
+		// changes once every CHUNK numbers, so the inner loop is two lookups.
+		long high = first / CHUNK;
+		int low = (int) (first % CHUNK);
+		int highSum = digitSquareSum(high);
+		for (long x = first; x < last; x++) {
+			if (HAPPY[highSum + CHUNK_DIGIT_SQUARES[low]]) {
+				final long i = x - origin;
+				bits[(int) (i >>> 6)] |= 1L << i;
+			}
+			if (++low == CHUNK) {
+				low = 0;
+				highSum = digitSquareSum(++high);
+			}
+		}
+	}
+
+	private static int digitSquareSum(long x) {
+		int sum = 0;
+		while (x > 0) {
+			sum += CHUNK_DIGIT_SQUARES[(int) (x % CHUNK)];
+			x /= CHUNK;
+		}
+		return sum;
+	}
+
+	private static int next(int x) {
 		int sum = 0;
 		while (x > 0) {
 			int d = x % 10;
@@ -70,5 +202,9 @@ public class HappyNumber {
 		for (int s : samples) {
 			System.out.println(s + " is happy? " + checker.isHappy(s));
 		}
+
+		long[] happy = checker.classify(1, 51);
+		System.out.println("Happy numbers in [1, 51): " + BitSet.valueOf(happy).stream()
+				.mapToObj(i -> String.valueOf(1 + i)).collect(Collectors.joining(", ")));
 	}
 }
@@ -1,8 +1,13 @@
 package com.learning.patterns.linear.fastslowpointers;
 
 import com.learning.model.Node;
+import com.learning.model.NodeArena;
 import com.learning.utils.LinkedListHelper;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Detects the intersection node of two singly linked lists (by reference).
  *
@@ -48,6 +53,223 @@ public class IntersectionOfTwoLinkedLists {
 		return pointerA;
 	}
 
+	/**
+	 * Arena variant of {@link #getIntersectionNode(Node, Node)}; both lists must
+	 * live in the same {@code arena}, where sharing a node means sharing an index.
+	 *
+	 * @param arena storage holding both lists
+	 * @param headA index of the head of the first list; may be {@link NodeArena#NIL}
+	 * @param headB index of the head of the second list; may be {@link NodeArena#NIL}
+	 * @return index of the intersection node, or {@link NodeArena#NIL} when the lists do not intersect
+	 */
+	public int getIntersectionNode(final NodeArena arena, final int headA, final int headB) {
+		if (headA == NodeArena.NIL || headB == NodeArena.NIL) {
+			return NodeArena.NIL;
+		}
+
+		int pointerA = headA;
+		int pointerB = headB;
+
+		while (pointerA != pointerB) {
+			pointerA = (pointerA == NodeArena.NIL) ? headB : arena.getNext(pointerA);
+			pointerB = (pointerB == NodeArena.NIL) ? headA : arena.getNext(pointerB);
+		}
+		return pointerA;
+	}
+
+	/**
+	 * A node where two or more of the input lists merge, with every list whose
+	 * path runs through it.
+	 */
+	public static final class Intersection {
+		private final Node node;
+		private final int[] lists;
+
+		Intersection(final Node node, final int[] lists) {
+			this.node = node;
+			this.lists = lists;
+		}
+
+		/** The first node the lists in {@link #getLists()} have in common. */
+		public Node getNode() {
+			return node;
+		}
+
+		/** Positions in the input array of the lists reaching this node, ascending. */
+		public int[] getLists() {
+			return lists.clone();
+		}
+
+		@Override
+		public String toString() {
+			return node.getData() + " <- " + Arrays.toString(lists);
+		}
+	}
+
+	/**
+	 * K-list generalization of {@link #getIntersectionNode(Node, Node)}: returns
+	 * every node at which two or more of the lists merge, each with the group
+	 * of lists that pass through it. For any two lists a and b that intersect,
+	 * {@code getIntersectionNode(heads[a], heads[b])} is the first reported node
+	 * on a's path whose group contains both a and b.
+	 *
+	 * <p>Each list is walked once, and only up to the first node an earlier list
+	 * has already visited, so each node is visited at most once overall.
+	 * Visited nodes go into an identity-keyed open-addressing table that stores
+	 * each node's owner and its position along that owner. A list that stops at
+	 * a visited node becomes a child of the owner at that position. Lists then
+	 * form a forest in which a list's parent always has a smaller index. An
+	 * ordering that visits children by join position makes each group a
+	 * contiguous run in the ordering.
+	 *
+	 * Time complexity: O(N + K log K + R), where N is the number of distinct
+	 * nodes, K the number of lists and R the total size of the reported groups.
+	 * Space complexity: O(N + K).
+	 *
+	 * @param heads heads of acyclic lists; entries may be {@code null}
+	 * @return the merge nodes, grouped by the list they were first reached on
+	 *         and in the order that list visits them
+	 */
+	public List<Intersection> getIntersections(final Node... heads) {
+		final int k = heads.length;
+		final int[] parent = new int[k];
+		final int[] joinPosition = new int[k];
+		final Node[] joinNode = new Node[k];
+		final IdentityIndex index = new IdentityIndex();
+
+		for (int i = 0; i < k; i++) {
+			parent[i] = -1;
+			int position = 0;
+			for (Node node = heads[i]; node != null; node = node.getNext()) {
+				final long seen = index.putIfAbsent(node, i, position);
+				if (seen != IdentityIndex.ABSENT) {
+					final int owner = (int) (seen >>> 32);
+					if (owner != i) { // a repeat of list i's own node would be a cycle: stop there
+						parent[i] = owner;
+						joinPosition[i] = (int) seen;
+						joinNode[i] = node;
+					}
+					break;
+				}
+				position++;
+			}
+		}
+
+		// Subtree sizes bottom-up, which works because parent[i] < i.
+		final int[] subtree = new int[k];
+		final int[] childCount = new int[k + 1];
+		for (int i = k - 1; i >= 0; i--) {
+			subtree[i]++;
+			if (parent[i] >= 0) {
+				subtree[parent[i]] += subtree[i];
+				childCount[parent[i] + 1]++;
+			}
+		}
+
+		// Children of every list, sorted by join position: (position << 32 | child).
+		final int[] childStart = childCount;
+		for (int i = 0; i < k; i++) {
+			childStart[i + 1] += childStart[i];
+		}
+		final long[] children = new long[childStart[k]];
+		final int[] fill = Arrays.copyOf(childStart, k);
+		for (int i = 0; i < k; i++) {
+			if (parent[i] >= 0) {
+				children[fill[parent[i]]++] = (long) joinPosition[i] << 32 | i;
+			}
+		}
+
+		// Preorder with children by join position; start[i] is i's slot in it.
+		final int[] order = new int[k];
+		final int[] start = new int[k];
+		int nextRoot = 0;
+		for (int i = 0; i < k; i++) {
+			if (parent[i] < 0) {
+				start[i] = nextRoot;
+				nextRoot += subtree[i];
+			}
+			order[start[i]] = i;
+			Arrays.sort(children, childStart[i], childStart[i + 1]);
+			int slot = start[i] + 1;
+			for (int c = childStart[i]; c < childStart[i + 1]; c++) {
+				final int child = (int) children[c];
+				start[child] = slot;
+				slot += subtree[child];
+			}
+		}
+
+		// A group is the owner plus every child subtree joining at or before the node.
+		final List<Intersection> result = new ArrayList<>();
+		for (int i = 0; i < k; i++) {
+			int end = start[i] + 1;
+			for (int c = childStart[i]; c < childStart[i + 1]; c++) {
+				final int child = (int) children[c];
+				end += subtree[child];
+				final boolean lastAtPosition = c + 1 == childStart[i + 1]
+						|| (int) (children[c + 1] >>> 32) != joinPosition[child];
+				if (lastAtPosition) {
+					final int[] group = Arrays.copyOfRange(order, start[i], end);
+					Arrays.sort(group);
+					result.add(new Intersection(joinNode[child], group));
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Open-addressing table from node identity to {@code (owner << 32 | position)},
+	 * with keys and values in flat arrays.
+	 */
+	private static final class IdentityIndex {
+		static final long ABSENT = -1L;
+
+		private Node[] keys = new Node[64];
+		private long[] values = new long[64];
+		private int size;
+
+		/** Returns the existing value for {@code node}, or stores a new one and returns {@link #ABSENT}. */
+		long putIfAbsent(final Node node, final int owner, final int position) {
+			int mask = keys.length - 1;
+			int slot = mix(node) & mask;
+			while (keys[slot] != null) {
+				if (keys[slot] == node) {
+					return values[slot];
+				}
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = node;
+			values[slot] = (long) owner << 32 | position;
+			if (++size * 2 > keys.length) {
+				grow();
+			}
+			return ABSENT;
+		}
+
+		private void grow() {
+			final Node[] oldKeys = keys;
+			final long[] oldValues = values;
+			keys = new Node[oldKeys.length * 2];
+			values = new long[oldKeys.length * 2];
+			final int mask = keys.length - 1;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != null) {
+					int slot = mix(oldKeys[i]) & mask;
+					while (keys[slot] != null) {
+						slot = (slot + 1) & mask;
+					}
+					keys[slot] = oldKeys[i];
+					values[slot] = oldValues[i];
+				}
+			}
+		}
+
+		private static int mix(final Node node) {
+			final int h = System.identityHashCode(node) * 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+	}
+
 	/**
 	 * Demonstration: builds two lists with a shared tail and finds the
 	 * intersection node.
@@ -75,5 +297,10 @@ public class IntersectionOfTwoLinkedLists {
 
 		Node inter = solver.getIntersectionNode(a, b);
 		System.out.println("Intersection: " + (inter == null ? "None" : inter.getData()));
+
+		// List C: 7 -> [4 -> 5], joining the shared tail one node later
+		Node c = new Node(7);
+		c.setNext(shared.getNext());
+		System.out.println("Intersections of A, B, C: " + solver.getIntersections(a, b, c));
 	}
 }
@@ -1,6 +1,7 @@
 package com.learning.patterns.linear.fastslowpointers;
 
 import com.learning.model.Node;
+import com.learning.model.NodeArena;
 import com.learning.utils.LinkedListHelper;
 
 /**
@@ -18,9 +19,21 @@ import com.learning.utils.LinkedListHelper;
  * constant multiple of n.
  * Space complexity: O(1).
  *
+ * <p>The traversal is delegated to a {@link CycleDetector}; Floyd's algorithm
+ * is used unless another engine is passed to the constructor.
  */
 public class LinkedListCycle {
 
+    private final CycleDetector detector;
+
+    public LinkedListCycle() {
+        this(CycleDetector.FLOYD);
+    }
+
+    public LinkedListCycle(final CycleDetector detector) {
+        this.detector = detector;
+    }
+
     /**
      * Determines whether {@code head} contains a cycle using two pointers.
      *
@@ -31,15 +44,26 @@ public class LinkedListCycle {
      * safe when {@code head} is {@code null} (returns {@code false}).
      */
     public boolean hasCycle(final Node head) {
-        if (head == null || head.getNext() == null) {
+        return detector.hasCycle(head);
+    }
+
+    /**
+     * Arena variant of {@link #hasCycle(Node)} for a list stored in {@code arena}.
+     *
+     * @param arena storage holding the list
+     * @param head index of the head node; may be {@link NodeArena#NIL}
+     * @return {@code true} if a cycle exists in the list, {@code false} otherwise
+     */
+    public boolean hasCycle(final NodeArena arena, final int head) {
+        if (head == NodeArena.NIL || arena.getNext(head) == NodeArena.NIL) {
             return false;
         }
-        Node slow = head;
-        Node fast = head.getNext();
+        int slow = head;
+        int fast = arena.getNext(head);
 
-        while (fast != null && fast.getNext() != null) {
-            slow = slow.getNext();
-            fast = fast.getNext().getNext();
+        while (fast != NodeArena.NIL && arena.getNext(fast) != NodeArena.NIL) {
+            slow = arena.getNext(slow);
+            fast = arena.getNext(arena.getNext(fast));
 
             if (slow == fast) {
                 return true;
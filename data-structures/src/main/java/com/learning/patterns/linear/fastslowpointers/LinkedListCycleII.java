@@ -1,6 +1,7 @@
 package com.learning.patterns.linear.fastslowpointers;
 
 import com.learning.model.Node;
+import com.learning.model.NodeArena;
 import com.learning.utils.LinkedListHelper;
 
 /**
@@ -18,9 +19,21 @@ import com.learning.utils.LinkedListHelper;
  * Time complexity: O(n).
  * Space complexity: O(1).
  *
+ * <p>The traversal is delegated to a {@link CycleDetector}; Floyd's algorithm
+ * is used unless another engine is passed to the constructor.
  */
 public class LinkedListCycleII {
 
+	private final CycleDetector detector;
+
+	public LinkedListCycleII() {
+		this(CycleDetector.FLOYD);
+	}
+
+	public LinkedListCycleII(final CycleDetector detector) {
+		this.detector = detector;
+	}
+
 	/**
 	 * Returns the node where the cycle begins, or {@code null} if there is no cycle.
 	 *
@@ -31,30 +44,39 @@ public class LinkedListCycleII {
 	 * is {@code null} (returns {@code null}).
 	 */
 	public Node findCycleStart(final Node head) {
-		if (head == null || head.getNext() == null) {
-			return null;
+		return detector.detect(head).getStart();
+	}
+
+	/**
+	 * Arena variant of {@link #findCycleStart(Node)} for a list stored in {@code arena}.
+	 *
+	 * @param arena storage holding the list
+	 * @param head index of the head node; may be {@link NodeArena#NIL}
+	 * @return index of the node at the start of the cycle or {@link NodeArena#NIL}
+	 */
+	public int findCycleStart(final NodeArena arena, final int head) {
+		if (head == NodeArena.NIL || arena.getNext(head) == NodeArena.NIL) {
+			return NodeArena.NIL;
 		}
 
-		Node slow = head;
-		Node fast = head;
+		int slow = head;
+		int fast = head;
 
-		// First: determine if a cycle exists
-		while (fast != null && fast.getNext() != null) {
-			slow = slow.getNext();
-			fast = fast.getNext().getNext();
+		while (fast != NodeArena.NIL && arena.getNext(fast) != NodeArena.NIL) {
+			slow = arena.getNext(slow);
+			fast = arena.getNext(arena.getNext(fast));
 
 			if (slow == fast) {
-				// Cycle detected; find entry point
-				Node ptr1 = head;
-				Node ptr2 = slow;
+				int ptr1 = head;
+				int ptr2 = slow;
 				while (ptr1 != ptr2) {
-					ptr1 = ptr1.getNext();
-					ptr2 = ptr2.getNext();
+					ptr1 = arena.getNext(ptr1);
+					ptr2 = arena.getNext(ptr2);
 				}
-				return ptr1; // start of cycle
+				return ptr1;
 			}
 		}
-		return null; // no cycle
+		return NodeArena.NIL;
 	}
 
 	public static void main(String[] args) {
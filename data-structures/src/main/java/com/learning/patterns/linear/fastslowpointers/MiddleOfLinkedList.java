@@ -1,6 +1,9 @@
 package com.learning.patterns.linear.fastslowpointers;
 
+import com.learning.model.IndexedList;
 import com.learning.model.Node;
+import com.learning.model.NodeArena;
+import com.learning.model.UnrolledList;
 import com.learning.utils.LinkedListHelper;
 
 /**
@@ -45,6 +48,62 @@ public class MiddleOfLinkedList {
         return slow.getData();
     }
 
+    /**
+     * Arena variant of {@link #getMiddle(Node)} for a list stored in {@code arena}.
+     *
+     * @param arena storage holding the list
+     * @param head index of the head node; may be {@link NodeArena#NIL}
+     * @return the data value of the middle node, or {@code -1} if the list is empty
+     */
+    public int getMiddle(final NodeArena arena, final int head) {
+        if (head == NodeArena.NIL) {
+            return -1;
+        }
+
+        int fast = head;
+        int slow = head;
+
+        while (fast != NodeArena.NIL && arena.getNext(fast) != NodeArena.NIL) {
+            fast = arena.getNext(arena.getNext(fast));
+            slow = arena.getNext(slow);
+        }
+        return arena.getData(slow);
+    }
+
+    /**
+     * Unrolled variant of {@link #getMiddle(Node)}. The list knows its size, so
+     * instead of a fast pointer the walk skips whole blocks up to index
+     * {@code size / 2} (the second middle for an even size).
+     *
+     * @param list the list; may be empty
+     * @return the middle value, or {@code -1} if the list is empty
+     */
+    public int getMiddle(final UnrolledList list) {
+        if (list.isEmpty()) {
+            return -1;
+        }
+
+        int offset = list.size() / 2;
+        UnrolledList.Block block = list.getHead();
+        while (offset >= block.size()) {
+            offset -= block.size();
+            block = block.getNext();
+        }
+        return block.get(offset);
+    }
+
+    /**
+     * Indexed variant of {@link #getMiddle(Node)}: the list tracks its length
+     * and checkpoints, so the middle is found in O(stride) instead of O(n).
+     *
+     * @param list the list; may be empty
+     * @return the middle value, or {@code -1} if the list is empty
+     */
+    public int getMiddle(final IndexedList list) {
+        final Node middle = list.getMiddle();
+        return middle == null ? -1 : middle.getData();
+    }
+
     /**
      * Demonstrates usage by constructing a small linked list, printing the
      * list, and printing its middle element to standard output. For the
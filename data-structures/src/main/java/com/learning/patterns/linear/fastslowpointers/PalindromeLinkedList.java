@@ -1,8 +1,13 @@
 package com.learning.patterns.linear.fastslowpointers;
 
 import com.learning.model.Node;
+import com.learning.model.NodeArena;
+import com.learning.model.PersistentList;
+import com.learning.model.UnrolledList;
 import com.learning.utils.LinkedListHelper;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Checks whether a singly linked list is a palindrome using the fast-and-slow
  * pointer technique and in-place reversal of the second half.
@@ -20,6 +25,9 @@ import com.learning.utils.LinkedListHelper;
  */
 public class PalindromeLinkedList {
 
+	/** Mersenne prime 2^61 - 1, the modulus of the read-only hash check. */
+	private static final long HASH_MOD = (1L << 61) - 1;
+
 	/**
 	 * Returns {@code true} if the list is a palindrome (reads the same forwards
 	 * and backwards). An empty list is considered a palindrome. This method
@@ -77,6 +85,54 @@ public class PalindromeLinkedList {
 		return palindrome;
 	}
 
+	/**
+	 * Arena variant of {@link #isPalindrome(Node)} for a list stored in
+	 * {@code arena}. The list is restored before the method returns.
+	 *
+	 * @param arena storage holding the list
+	 * @param head index of the head node; may be {@link NodeArena#NIL}
+	 * @return {@code true} if the list is a palindrome, otherwise {@code false}
+	 */
+	public boolean isPalindrome(final NodeArena arena, final int head) {
+		if (head == NodeArena.NIL) {
+			return true;
+		}
+
+		int fast = head;
+		int slow = head;
+		int prevSlow = NodeArena.NIL;
+
+		while (fast != NodeArena.NIL && arena.getNext(fast) != NodeArena.NIL) {
+			fast = arena.getNext(arena.getNext(fast));
+			prevSlow = slow;
+			slow = arena.getNext(slow);
+		}
+
+		int secondStart = (fast != NodeArena.NIL) ? arena.getNext(slow) : slow;
+		int secondReversed = reverse(arena, secondStart);
+
+		int p1 = head;
+		int p2 = secondReversed;
+		boolean palindrome = true;
+		while (p2 != NodeArena.NIL) {
+			if (arena.getData(p1) != arena.getData(p2)) {
+				palindrome = false;
+				break;
+			}
+			p1 = arena.getNext(p1);
+			p2 = arena.getNext(p2);
+		}
+
+		int restored = reverse(arena, secondReversed);
+		if (fast != NodeArena.NIL) {
+			arena.setNext(slow, restored);
+		} else if (prevSlow != NodeArena.NIL) {
+			arena.setNext(prevSlow, restored);
+		}
+
+		return palindrome;
+	}
+
 	private Node reverse(Node head) {
 		Node prev = null;
 		Node curr = head;
@@ -89,6 +145,162 @@ public class PalindromeLinkedList {
 		return prev;
 	}
 
+	private int reverse(NodeArena arena, int head) {
+		int prev = NodeArena.NIL;
+		int curr = head;
+		while (curr != NodeArena.NIL) {
+			int next = arena.getNext(curr);
+			arena.setNext(curr, prev);
+			prev = curr;
+			curr = next;
+		}
+		return prev;
+	}
+
+	/**
+	 * Unrolled variant of {@link #isPalindrome(Node)}: the second half is
+	 * reversed block by block, compared against the first half and reversed
+	 * back before the method returns.
+	 *
+	 * @param list the list to check; may be empty
+	 * @return {@code true} if the list is a palindrome, otherwise {@code false}
+	 */
+	public boolean isPalindrome(final UnrolledList list) {
+		final int size = list.size();
+		if (size < 2) {
+			return true;
+		}
+
+		final int half = size / 2;
+		final int secondStart = size - half;
+		list.reverseFrom(secondStart);
+
+		UnrolledList.Block left = list.getHead();
+		UnrolledList.Block right = list.blockStartingAt(secondStart);
+		int l = 0;
+		int r = 0;
+		boolean palindrome = true;
+		for (int i = 0; i < half; i++) {
+			if (l == left.size()) {
+				left = left.getNext();
+				l = 0;
+			}
+			if (r == right.size()) {
+				right = right.getNext();
+				r = 0;
+			}
+			if (left.get(l++) != right.get(r++)) {
+				palindrome = false;
+				break;
+			}
+		}
+
+		list.reverseFrom(secondStart);
+		return palindrome;
+	}
+
+	/**
+	 * Persistent variant of {@link #isPalindrome(Node)}. The list cannot be
+	 * reversed in place, so the first half is pushed onto a new list as it is
+	 * walked, which reverses it, and then compared with the second half.
+	 *
+	 * Time complexity: O(n). Space complexity: O(n) for the reversed half.
+	 *
+	 * @param list the list to check; may be empty
+	 * @return {@code true} if the list is a palindrome, otherwise {@code false}
+	 */
+	public boolean isPalindrome(final PersistentList list) {
+		final int half = list.size() / 2;
+		PersistentList reversed = PersistentList.empty();
+		PersistentList rest = list;
+		for (int i = 0; i < half; i++) {
+			reversed = reversed.prepend(rest.head());
+			rest = rest.tail();
+		}
+		if (list.size() % 2 == 1) {
+			rest = rest.tail(); // skip the middle value
+		}
+		return reversed.equals(rest);
+	}
+
+	/**
+	 * Read-only variant of {@link #isPalindrome(Node)} that never writes to
+	 * the list, so it can run without locking on a list shared with other
+	 * readers. Equivalent to {@code isPalindromeReadOnly(head, false)}.
+	 */
+	public boolean isPalindromeReadOnly(final Node head) {
+		return isPalindromeReadOnly(head, false);
+	}
+
+	/**
+	 * Checks the list in one forward pass with two polynomial hashes modulo the
+	 * prime 2^61 - 1: one reading the values left to right, one right to left.
+	 * The list is a palindrome exactly when the two sequences are equal, so a
+	 * hash mismatch is a definite {@code false}. A match is wrong with
+	 * probability below n / 2^61 for a random base; with {@code verify} set, a
+	 * match is confirmed by a second pass that copies the values into an
+	 * {@code int[]} and compares them exactly.
+	 *
+	 * Time complexity: O(n). Space complexity: O(1), or O(n) when verifying.
+	 *
+	 * @param head the head of the singly linked list; may be {@code null}
+	 * @param verify whether to confirm a hash match exactly
+	 * @return {@code true} if the list is a palindrome, otherwise {@code false}
+	 */
+	public boolean isPalindromeReadOnly(final Node head, final boolean verify) {
+		if (head == null || head.getNext() == null) {
+			return true;
+		}
+
+		// A fresh random base per call keeps crafted inputs from forcing collisions.
+		final long base = ThreadLocalRandom.current().nextLong(1L << 20, HASH_MOD - 1);
+		long forward = 0;
+		long backward = 0;
+		long power = 1;
+		int length = 0;
+		for (Node node = head; node != null; node = node.getNext()) {
+			final long value = node.getData() & 0xFFFFFFFFL;
+			forward = addMod(mulMod(forward, base), value);
+			backward = addMod(backward, mulMod(value, power));
+			power = mulMod(power, base);
+			length++;
+		}
+
+		if (forward != backward) {
+			return false;
+		}
+		if (!verify) {
+			return true;
+		}
+
+		final int[] values = new int[length];
+		int i = 0;
+		for (Node node = head; node != null && i < length; node = node.getNext()) {
+			values[i++] = node.getData();
+		}
+		for (int l = 0, r = i - 1; l < r; l++, r--) {
+			if (values[l] != values[r]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** a * b mod 2^61 - 1 for a, b in [0, 2^61 - 1). */
+	private static long mulMod(final long a, final long b) {
+		final long high = Math.multiplyHigh(a, b);
+		final long low = a * b;
+		// a * b = high * 2^64 + low; fold the bits above position 61 back in (2^61 = 1 mod p).
+		long r = (low & HASH_MOD) + ((low >>> 61) | (high << 3));
+		r = (r & HASH_MOD) + (r >>> 61);
+		return r >= HASH_MOD ? r - HASH_MOD : r;
+	}
+
+	private static long addMod(final long a, final long b) {
+		final long r = a + b;
+		return r >= HASH_MOD ? r - HASH_MOD : r;
+	}
+
 	/**
 	 * Demonstration of usage. Prints input lists and whether each is a
 	 * palindrome.
@@ -107,5 +319,6 @@ public class PalindromeLinkedList {
 		Node c = LinkedListHelper.fromArray(new int[]{1, 2, 3});
 		System.out.print("Input: "); LinkedListHelper.printList(c);
 		System.out.println("Is palindrome: " + checker.isPalindrome(c));
+		System.out.println("Is palindrome (read-only, verified): " + checker.isPalindromeReadOnly(c, true));
 	}
 }
@@ -1,6 +1,10 @@
 package com.learning.patterns.linear.fastslowpointers;
 
+import com.learning.model.IndexedList;
 import com.learning.model.Node;
+import com.learning.model.NodeArena;
+import com.learning.model.PersistentList;
+import com.learning.model.UnrolledList;
 import com.learning.utils.LinkedListHelper;
 
 /**
@@ -65,6 +69,96 @@ public class RemoveNthNodeFromEnd {
 		return dummy.getNext();
 	}
 
+	/**
+	 * Arena variant of {@link #removeNthFromEnd(Node, int)} for a list stored in
+	 * {@code arena}. The removed node is unlinked but stays allocated in the arena.
+	 *
+	 * @param arena storage holding the list
+	 * @param head index of the head node; may be {@link NodeArena#NIL}
+	 * @param n the 1-based index from the end of the node to remove
+	 * @return index of the head of the modified list
+	 */
+	public int removeNthFromEnd(final NodeArena arena, final int head, final int n) {
+		if (head == NodeArena.NIL || n <= 0) {
+			return head;
+		}
+
+		// Move fast to the n-th node; if the list is shorter, leave it unchanged.
+		int fast = head;
+		for (int i = 1; i < n; i++) {
+			fast = arena.getNext(fast);
+			if (fast == NodeArena.NIL) {
+				return head;
+			}
+		}
+
+		// Move both until fast reaches the last node; slow is then the node to remove.
+		// There is no dummy node in the arena, so track the predecessor explicitly.
+		int prev = NodeArena.NIL;
+		int slow = head;
+		while (arena.getNext(fast) != NodeArena.NIL) {
+			fast = arena.getNext(fast);
+			prev = slow;
+			slow = arena.getNext(slow);
+		}
+
+		if (prev == NodeArena.NIL) {
+			return arena.getNext(slow); // removing the head
+		}
+		arena.setNext(prev, arena.getNext(slow));
+		return head;
+	}
+
+	/**
+	 * Unrolled variant of {@link #removeNthFromEnd(Node, int)}. The list knows
+	 * its size, so the gap of {@code n} is plain index arithmetic and the walk
+	 * to the victim skips whole blocks.
+	 *
+	 * @param list the list to modify
+	 * @param n the 1-based index from the end of the value to remove
+	 * @return {@code true} if a value was removed, {@code false} if {@code n} is
+	 *         not in {@code [1, size]}
+	 */
+	public boolean removeNthFromEnd(final UnrolledList list, final int n) {
+		if (n <= 0 || n > list.size()) {
+			return false;
+		}
+
+		list.removeAt(list.size() - n);
+		return true;
+	}
+
+	/**
+	 * Indexed variant of {@link #removeNthFromEnd(Node, int)}: the predecessor
+	 * of the victim is reached from the nearest checkpoint instead of by
+	 * walking two pointers over the whole list.
+	 *
+	 * @param list the list to modify
+	 * @param n the 1-based index from the end of the node to remove
+	 * @return the head of the modified list
+	 */
+	public Node removeNthFromEnd(final IndexedList list, final int n) {
+		list.removeNthFromEnd(n);
+		return list.getHead();
+	}
+
+	/**
+	 * Persistent variant of {@link #removeNthFromEnd(Node, int)}: the cells in
+	 * front of the removed value are copied and the cells after it are shared
+	 * with {@code list}, which stays as it was.
+	 *
+	 * @param list the list to remove from
+	 * @param n the 1-based index from the end of the value to remove
+	 * @return the new version, or {@code list} itself if {@code n} is not in
+	 *         {@code [1, size]}
+	 */
+	public PersistentList removeNthFromEnd(final PersistentList list, final int n) {
+		if (n <= 0 || n > list.size()) {
+			return list;
+		}
+		return list.removeAt(list.size() - n);
+	}
+
 	/**
 	 * Simple demonstration: builds a list, removes an element, and prints
 	 * before/after results.
@@ -1,6 +1,9 @@
 package com.learning.patterns.linear.fastslowpointers;
 
 import com.learning.model.Node;
+import com.learning.model.NodeArena;
+import com.learning.model.PersistentList;
+import com.learning.model.UnrolledList;
 import com.learning.utils.LinkedListHelper;
 
 /**
@@ -57,6 +60,45 @@ public class ReorderList {
 		}
 	}
 
+	/**
+	 * Arena variant of {@link #reorderList(Node)} for a list stored in {@code arena}.
+	 *
+	 * @param arena storage holding the list
+	 * @param head index of the head node; may be {@link NodeArena#NIL}
+	 */
+	public void reorderList(final NodeArena arena, final int head) {
+		if (head == NodeArena.NIL || arena.getNext(head) == NodeArena.NIL
+				|| arena.getNext(arena.getNext(head)) == NodeArena.NIL) {
+			return;
+		}
+
+		// 1. Find middle (end of first half)
+		int slow = head;
+		int fast = head;
+		while (arena.getNext(fast) != NodeArena.NIL && arena.getNext(arena.getNext(fast)) != NodeArena.NIL) {
+			slow = arena.getNext(slow);
+			fast = arena.getNext(arena.getNext(fast));
+		}
+
+		// 2. Split and reverse second half
+		int second = arena.getNext(slow);
+		arena.setNext(slow, NodeArena.NIL);
+		int secondPtr = reverse(arena, second);
+
+		// 3. Merge alternately
+		int first = head;
+		while (secondPtr != NodeArena.NIL) {
+			int tmp1 = arena.getNext(first);
+			int tmp2 = arena.getNext(secondPtr);
+
+			arena.setNext(first, secondPtr);
+			arena.setNext(secondPtr, tmp1);
+
+			first = tmp1 == NodeArena.NIL ? first : tmp1;
+			secondPtr = tmp2;
+		}
+	}
+
 	private Node reverse(Node head) {
 		Node prev = null;
 		Node curr = head;
@@ -69,6 +111,84 @@ public class ReorderList {
 		return prev;
 	}
 
+	private int reverse(NodeArena arena, int head) {
+		int prev = NodeArena.NIL;
+		int curr = head;
+		while (curr != NodeArena.NIL) {
+			int next = arena.getNext(curr);
+			arena.setNext(curr, prev);
+			prev = curr;
+			curr = next;
+		}
+		return prev;
+	}
+
+	/**
+	 * Unrolled variant of {@link #reorderList(Node)}. The second half is
+	 * reversed block by block, then both halves are interleaved into freshly
+	 * packed blocks that replace the list's contents; values cannot be relinked
+	 * one by one inside shared blocks.
+	 *
+	 * @param list the list to reorder
+	 */
+	public void reorderList(final UnrolledList list) {
+		final int size = list.size();
+		if (size < 3) {
+			return;
+		}
+
+		final int half = size / 2;
+		final int secondStart = size - half;
+		list.reverseFrom(secondStart);
+
+		final UnrolledList merged = new UnrolledList(list.blockCapacity());
+		UnrolledList.Block left = list.getHead();
+		UnrolledList.Block right = list.blockStartingAt(secondStart);
+		int l = 0;
+		int r = 0;
+		for (int i = 0; i < secondStart; i++) {
+			if (l == left.size()) {
+				left = left.getNext();
+				l = 0;
+			}
+			merged.add(left.get(l++));
+			if (i < half) {
+				if (r == right.size()) {
+					right = right.getNext();
+					r = 0;
+				}
+				merged.add(right.get(r++));
+			}
+		}
+		list.transferFrom(merged);
+	}
+
+	/**
+	 * Persistent variant of {@link #reorderList(Node)}. The reordered version
+	 * shares no links with the input, so it is built afresh, back to front,
+	 * from the values in an array; {@code list} stays as it was.
+	 *
+	 * @param list the list to reorder
+	 * @return the reordered version, or {@code list} itself if it has fewer
+	 *         than three values
+	 */
+	public PersistentList reorderList(final PersistentList list) {
+		final int size = list.size();
+		if (size < 3) {
+			return list;
+		}
+
+		final int[] values = list.toArray();
+		final int[] reordered = new int[size];
+		for (int i = 0, l = 0, r = size - 1; l <= r; l++, r--) {
+			reordered[i++] = values[l];
+			if (l < r) {
+				reordered[i++] = values[r];
+			}
+		}
+		return PersistentList.of(reordered);
+	}
+
 	/**
 	 * Demonstrates usage by reordering sample lists and printing the results.
 	 */
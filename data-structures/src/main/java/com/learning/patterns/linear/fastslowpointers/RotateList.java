@@ -1,6 +1,10 @@
 package com.learning.patterns.linear.fastslowpointers;
 
 import com.learning.model.Node;
+import com.learning.model.NodeArena;
+import com.learning.model.PersistentList;
+import com.learning.model.RotatableList;
+import com.learning.model.UnrolledList;
 import com.learning.utils.LinkedListHelper;
 
 /**
@@ -64,6 +68,85 @@ public class RotateList {
 		return newHead;
 	}
 
+	/**
+	 * Arena variant of {@link #rotateRight(Node, int)} for a list stored in {@code arena}.
+	 *
+	 * @param arena storage holding the list
+	 * @param head index of the head node; may be {@link NodeArena#NIL}
+	 * @param k number of right rotations to perform
+	 * @return index of the new head after rotation
+	 */
+	public int rotateRight(final NodeArena arena, final int head, final int k) {
+		if (head == NodeArena.NIL || k <= 0) {
+			return head;
+		}
+
+		int length = 1;
+		int tail = head;
+		while (arena.getNext(tail) != NodeArena.NIL) {
+			tail = arena.getNext(tail);
+			length++;
+		}
+
+		int rotations = k % length;
+		if (rotations == 0) {
+			return head;
+		}
+
+		arena.setNext(tail, head);
+
+		int stepsToNewTail = length - rotations;
+		int newTail = head;
+		for (int i = 1; i < stepsToNewTail; i++) {
+			newTail = arena.getNext(newTail);
+		}
+
+		int newHead = arena.getNext(newTail);
+		arena.setNext(newTail, NodeArena.NIL);
+
+		return newHead;
+	}
+
+	/**
+	 * Unrolled variant of {@link #rotateRight(Node, int)}: the list is split
+	 * before the new head, dividing at most one block, and the blocks are
+	 * relinked in place.
+	 *
+	 * @param list the list to rotate
+	 * @param k number of right rotations to perform
+	 */
+	public void rotateRight(final UnrolledList list, final int k) {
+		list.rotateRight(k);
+	}
+
+	/**
+	 * Lazy variant of {@link #rotateRight(Node, int)}: the rotation is only
+	 * added to the list's pending offset in O(1). Consecutive calls cost one
+	 * relinking walk in total, on the next {@link RotatableList#getHead()}.
+	 *
+	 * @param list the list to rotate
+	 * @param k number of right rotations to perform
+	 */
+	public void rotateRight(final RotatableList list, final int k) {
+		if (k > 0) {
+			list.rotateRight(k);
+		}
+	}
+
+	/**
+	 * Persistent variant of {@link #rotateRight(Node, int)}. Every link of the
+	 * result differs from the input's, so nothing can be shared: the rotated
+	 * version is a full copy and {@code list} stays as it was.
+	 *
+	 * @param list the list to rotate
+	 * @param k number of right rotations to perform
+	 * @return the rotated version, or {@code list} itself if {@code k} is
+	 *         non-positive or a multiple of the size
+	 */
+	public PersistentList rotateRight(final PersistentList list, final int k) {
+		return k <= 0 ? list : list.rotateRight(k);
+	}
+
 	/**
 	 * Demo: rotate sample lists and print results.
 	 */
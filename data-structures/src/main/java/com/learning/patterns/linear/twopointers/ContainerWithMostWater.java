@@ -1,7 +1,13 @@
 package com.learning.patterns.linear.twopointers;
 
+import com.learning.model.MappedIntArray;
 import com.learning.utils.ArrayHelper;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
 /**
  * Container With Most Water (two-pointer solution).
  *
@@ -16,9 +22,20 @@ import com.learning.utils.ArrayHelper;
  *
  * Time complexity: O(n).
  * Space complexity: O(1).
+ *
+ * <p>Parallel mode ({@link #maxAreaParallel(int[])}): a line can only be the
+ * left wall of an optimal container if it is taller than every line to its
+ * left (otherwise that taller, farther line does at least as well), and
+ * symmetrically for the right wall. These strictly increasing prefix-max and
+ * suffix-max "envelopes" are collected chunk by chunk on a ForkJoinPool, and
+ * the two-pointer sweep then runs over the candidates only, which for typical
+ * data are a tiny fraction of the input.
  */
 public class ContainerWithMostWater {
 
+	/** Inputs shorter than this are handled by a single task. */
+	private static final int MIN_CHUNK = 1 << 16;
+
 	/**
 	 * Computes the maximum area of water that can be contained.
 	 *
@@ -49,6 +66,193 @@ public class ContainerWithMostWater {
 		return max;
 	}
 
+	/**
+	 * Same scan over a memory-mapped file of heights, for series too large for
+	 * the heap. Each pointer reads the file strictly sequentially from its end
+	 * and every height is read once. The area is computed in {@code long}.
+	 *
+	 * @param height mapped non-negative heights
+	 * @return maximum area (0 if {@code height} is null or has fewer than 2 elements)
+	 */
+	public long maxArea(MappedIntArray height) {
+		if (height == null || height.length() < 2) {
+			return 0;
+		}
+
+		long left = 0;
+		long right = height.length() - 1;
+		int leftHeight = height.get(left);
+		int rightHeight = height.get(right);
+		long max = 0;
+
+		while (left < right) {
+			long area = (long) Math.min(leftHeight, rightHeight) * (right - left);
+			if (area > max) max = area;
+
+			if (leftHeight < rightHeight) {
+				leftHeight = height.get(++left);
+			} else {
+				rightHeight = height.get(--right);
+			}
+		}
+
+		return max;
+	}
+
+	/**
+	 * Computes the maximum area on the common ForkJoinPool. Unlike
+	 * {@link #maxArea(int[])} the area is computed in {@code long} and cannot overflow.
+	 *
+	 * @param height array of non-negative heights
+	 * @return maximum area (0 if {@code height} is null or has fewer than 2 elements)
+	 */
+	public long maxAreaParallel(int[] height) {
+		return maxAreaParallel(height, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Same as {@link #maxAreaParallel(int[])} but runs on the given {@code pool}.
+	 */
+	public long maxAreaParallel(int[] height, ForkJoinPool pool) {
+		if (height == null || height.length < 2) {
+			return 0;
+		}
+
+		final int n = height.length;
+		final int chunkSize = Math.max(MIN_CHUNK, (n + pool.getParallelism() * 4 - 1) / (pool.getParallelism() * 4));
+		final int chunks = (n + chunkSize - 1) / chunkSize;
+
+		// 1. Maximum of every chunk.
+		final int[] chunkMax = new int[chunks];
+		forEachChunk(pool, chunks, c -> {
+			int max = -1;
+			for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+				if (height[i] > max) max = height[i];
+			}
+			chunkMax[c] = max;
+		});
+
+		// 2. Maximum of everything before / after each chunk.
+		final int[] maxBefore = new int[chunks];
+		final int[] maxAfter = new int[chunks];
+		maxBefore[0] = -1;
+		for (int c = 1; c < chunks; c++) {
+			maxBefore[c] = Math.max(maxBefore[c - 1], chunkMax[c - 1]);
+		}
+		maxAfter[chunks - 1] = -1;
+		for (int c = chunks - 2; c >= 0; c--) {
+			maxAfter[c] = Math.max(maxAfter[c + 1], chunkMax[c + 1]);
+		}
+
+		// 3. Envelope candidates of every chunk: left walls ascending, right walls descending.
+		final int[][] leftWalls = new int[chunks][];
+		final int[][] rightWalls = new int[chunks][];
+		forEachChunk(pool, chunks, c -> {
+			final int start = c * chunkSize;
+			final int end = Math.min(n, start + chunkSize);
+			leftWalls[c] = leftEnvelope(height, start, end, maxBefore[c]);
+			rightWalls[c] = rightEnvelope(height, start, end, maxAfter[c]);
+		});
+
+		final int[] left = concat(leftWalls, false);
+		final int[] right = concat(rightWalls, true);
+
+		// 4. Two-pointer sweep over the candidates.
+		int l = 0;
+		int r = 0;
+		long max = 0;
+		while (l < left.length && r < right.length && left[l] < right[r]) {
+			final int hl = height[left[l]];
+			final int hr = height[right[r]];
+			final long area = (long) Math.min(hl, hr) * (right[r] - left[l]);
+			if (area > max) max = area;
+
+			if (hl < hr) {
+				l++;
+			} else {
+				r++;
+			}
+		}
+		return max;
+	}
+
+	/** Indices in [start, end) taller than {@code floor} and every earlier index. */
+	private static int[] leftEnvelope(int[] height, int start, int end, int floor) {
+		int[] walls = new int[8];
+		int count = 0;
+		int running = floor;
+		for (int i = start; i < end; i++) {
+			if (height[i] > running) {
+				running = height[i];
+				if (count == walls.length) walls = Arrays.copyOf(walls, count << 1);
+				walls[count++] = i;
+			}
+		}
+		return Arrays.copyOf(walls, count);
+	}
+
+	/** Indices in [start, end) taller than {@code floor} and every later index, in descending order. */
+	private static int[] rightEnvelope(int[] height, int start, int end, int floor) {
+		int[] walls = new int[8];
+		int count = 0;
+		int running = floor;
+		for (int i = end - 1; i >= start; i--) {
+			if (height[i] > running) {
+				running = height[i];
+				if (count == walls.length) walls = Arrays.copyOf(walls, count << 1);
+				walls[count++] = i;
+			}
+		}
+		return Arrays.copyOf(walls, count);
+	}
+
+	private static int[] concat(int[][] parts, boolean reverseChunkOrder) {
+		int total = 0;
+		for (int[] part : parts) {
+			total += part.length;
+		}
+		final int[] result = new int[total];
+		int offset = 0;
+		for (int i = 0; i < parts.length; i++) {
+			final int[] part = parts[reverseChunkOrder ? parts.length - 1 - i : i];
+			System.arraycopy(part, 0, result, offset, part.length);
+			offset += part.length;
+		}
+		return result;
+	}
+
+	private static void forEachChunk(ForkJoinPool pool, int chunks, IntConsumer body) {
+		if (chunks == 1) {
+			body.accept(0);
+		} else {
+			pool.invoke(new ChunkTask(body, 0, chunks));
+		}
+	}
+
+	/** Runs {@code body} for every chunk index in [from, to), splitting in halves. */
+	@SuppressWarnings("serial")
+	private static final class ChunkTask extends RecursiveAction {
+		private final IntConsumer body;
+		private final int from;
+		private final int to;
+
+		ChunkTask(IntConsumer body, int from, int to) {
+			this.body = body;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				body.accept(from);
+				return;
+			}
+			final int mid = (from + to) >>> 1;
+			invokeAll(new ChunkTask(body, from, mid), new ChunkTask(body, mid, to));
+		}
+	}
+
 	public static void main(String[] args) {
 		ContainerWithMostWater solver = new ContainerWithMostWater();
 
@@ -59,5 +263,6 @@ public class ContainerWithMostWater {
 		int[] expected2 = new int[]{1, 1}; // expected 1
 		System.out.print("Input: "); ArrayHelper.printArray(expected2);
 		System.out.println("Max area: " + solver.maxArea(expected2));
+		System.out.println("Max area (parallel): " + solver.maxAreaParallel(expected2));
 	}
 }
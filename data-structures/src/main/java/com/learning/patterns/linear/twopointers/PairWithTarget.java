@@ -1,5 +1,6 @@
 package com.learning.patterns.linear.twopointers;
 
+import com.learning.model.IntHashSet;
 import com.learning.utils.ArrayHelper;
 import java.util.Arrays;
 
@@ -16,9 +17,31 @@ import java.util.Arrays;
  *
  * Time complexity: O(n log n) due to sorting.
  * Space complexity: O(n) for the copied array.
+ *
+ * <p>Large inputs skip the copy and sort: a single pass remembers every value
+ * seen so far and stops at the first value whose complement was already seen.
+ * Values are remembered in a bitmap when they span a small range, otherwise
+ * in a primitive {@link IntHashSet}. Both run in expected O(n).
+ * {@link #chooseStrategy(int[])} picks the mode from input size and value range.
  */
 public class PairWithTarget {
 
+	/** How {@link #pairWithTarget(int[], int, Strategy)} searches for the pair. */
+	public enum Strategy {
+		/** Copy, sort and scan with two pointers: O(n log n). */
+		SORT,
+		/** One pass with a bitmap over [min, max]: O(n + range / 64). */
+		BITMAP,
+		/** One pass with an open-addressing int hash set: expected O(n). */
+		HASH
+	}
+
+	/** Below this size copying and sorting beats building any index. */
+	private static final int SORT_THRESHOLD = 64;
+
+	/** A bitmap is used while it needs at most this many bits per input value. */
+	private static final int BITMAP_BITS_PER_VALUE = 32;
+
 	/**
 	 * Returns two values [a, b] (a <= b) such that a + b == target, or
 	 * {@code null} if no such pair exists.
@@ -28,10 +51,79 @@ public class PairWithTarget {
 	 * @return two-element array of values or {@code null}
 	 */
 	public int[] pairWithTarget(int[] nums, int target) {
+		if (nums == null || nums.length < SORT_THRESHOLD) {
+			return pairWithTarget(nums, target, Strategy.SORT);
+		}
+		// One scan for the range serves both the choice and the bitmap.
+		final long range = minMax(nums);
+		return strategyFor(nums.length, range) == Strategy.BITMAP
+				? pairWithBitmap(nums, target, range)
+				: pairWithHash(nums, target);
+	}
+
+	/**
+	 * Same as {@link #pairWithTarget(int[], int)} with an explicit search mode.
+	 * The single-pass modes compute complements exactly, without {@code int}
+	 * overflow, and may return a different valid pair than {@link Strategy#SORT}.
+	 *
+	 * @param nums input array (may be unsorted)
+	 * @param target desired sum
+	 * @param strategy search mode
+	 * @return two-element array of values or {@code null}
+	 */
+	public int[] pairWithTarget(int[] nums, int target, Strategy strategy) {
 		if (nums == null || nums.length < 2) {
 			return null;
 		}
 
+		switch (strategy) {
+			case BITMAP:
+				return pairWithBitmap(nums, target, minMax(nums));
+			case HASH:
+				return pairWithHash(nums, target);
+			default:
+				return pairWithSort(nums, target);
+		}
+	}
+
+	/**
+	 * Returns the strategy {@link #pairWithTarget(int[], int)} uses for {@code nums}:
+	 * {@link Strategy#SORT} for small inputs, {@link Strategy#BITMAP} when the
+	 * values span a range small relative to the input, {@link Strategy#HASH} otherwise.
+	 */
+	public Strategy chooseStrategy(int[] nums) {
+		if (nums == null || nums.length < SORT_THRESHOLD) {
+			return Strategy.SORT;
+		}
+		return strategyFor(nums.length, minMax(nums));
+	}
+
+	/** {@link Strategy#BITMAP} or {@link Strategy#HASH} for {@code length} values spanning {@code range}. */
+	private static Strategy strategyFor(int length, long range) {
+		final long span = (long) max(range) - min(range) + 1;
+		return span <= (long) BITMAP_BITS_PER_VALUE * length ? Strategy.BITMAP : Strategy.HASH;
+	}
+
+	/** Smallest and largest value of non-empty {@code nums}, packed as read by {@link #min} and {@link #max}. */
+	private static long minMax(int[] nums) {
+		int min = nums[0];
+		int max = nums[0];
+		for (int value : nums) {
+			if (value < min) min = value;
+			if (value > max) max = value;
+		}
+		return (long) min << 32 | (max & 0xFFFFFFFFL);
+	}
+
+	private static int min(long range) {
+		return (int) (range >> 32);
+	}
+
+	private static int max(long range) {
+		return (int) range;
+	}
+
+	private int[] pairWithSort(int[] nums, int target) {
 		int[] copy = Arrays.copyOf(nums, nums.length);
 		Arrays.sort(copy);
 
@@ -50,6 +142,42 @@ public class PairWithTarget {
 		return null;
 	}
 
+	private int[] pairWithHash(int[] nums, int target) {
+		final IntHashSet seen = new IntHashSet(nums.length);
+		for (int value : nums) {
+			final long complement = (long) target - value;
+			if (complement >= Integer.MIN_VALUE && complement <= Integer.MAX_VALUE
+					&& seen.contains((int) complement)) {
+				return orderedPair(value, (int) complement);
+			}
+			seen.add(value);
+		}
+		return null;
+	}
+
+	private int[] pairWithBitmap(int[] nums, int target, long range) {
+		final int min = min(range);
+		final int max = max(range);
+
+		final long[] seen = new long[(int) ((((long) max - min) >>> 6) + 1)];
+		for (int value : nums) {
+			final long complement = (long) target - value;
+			if (complement >= min && complement <= max) {
+				final long bit = complement - min;
+				if ((seen[(int) (bit >>> 6)] & (1L << bit)) != 0) {
+					return orderedPair(value, (int) complement);
+				}
+			}
+			final long bit = (long) value - min;
+			seen[(int) (bit >>> 6)] |= 1L << bit;
+		}
+		return null;
+	}
+
+	private static int[] orderedPair(int a, int b) {
+		return a <= b ? new int[]{a, b} : new int[]{b, a};
+	}
+
 	public static void main(String[] args) {
 		PairWithTarget solver = new PairWithTarget();
 
@@ -62,5 +190,8 @@ public class PairWithTarget {
 		System.out.print("Input: "); ArrayHelper.printArray(ex2);
 		System.out.println("Pair result (target=12):");
 		ArrayHelper.printArray(solver.pairWithTarget(ex2, 12));
+
+		System.out.println("Pair result (target=12, hash):");
+		ArrayHelper.printArray(solver.pairWithTarget(ex2, 12, Strategy.HASH));
 	}
 }
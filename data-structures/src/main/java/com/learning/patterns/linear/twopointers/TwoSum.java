@@ -1,5 +1,6 @@
 package com.learning.patterns.linear.twopointers;
 
+import com.learning.model.MappedIntArray;
 import com.learning.utils.ArrayHelper;
 
 /**
@@ -49,6 +50,41 @@ public class TwoSum {
 		return null;
 	}
 
+	/**
+	 * Same scan over a memory-mapped file of sorted ints, for inputs too large
+	 * for the heap. Each pointer reads the file strictly sequentially from its
+	 * end, so the OS read-ahead serves both streams. Sums are computed in
+	 * {@code long} and cannot overflow.
+	 *
+	 * @param nums mapped sorted input (ascending)
+	 * @param target desired sum
+	 * @return two-element {@code long[]} with indices [i, j], or {@code null}
+	 *         if no qualifying pair exists
+	 */
+	public long[] twoSum(MappedIntArray nums, long target) {
+		if (nums == null || nums.length() < 2) {
+			return null;
+		}
+
+		long left = 0;
+		long right = nums.length() - 1;
+		int leftValue = nums.get(left);
+		int rightValue = nums.get(right);
+
+		while (left < right) {
+			long sum = (long) leftValue + rightValue;
+			if (sum == target) {
+				return new long[]{left, right};
+			}
+			if (sum < target) {
+				leftValue = nums.get(++left);
+			} else {
+				rightValue = nums.get(--right);
+			}
+		}
+		return null;
+	}
+
 	public static void main(String[] args) {
 		TwoSum solver = new TwoSum();
 
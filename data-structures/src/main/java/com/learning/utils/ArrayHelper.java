@@ -1,5 +1,8 @@
 package com.learning.utils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Utility helpers for working with arrays in examples and demos.
  *
@@ -10,22 +13,20 @@ package com.learning.utils;
  */
 public class ArrayHelper {
 
+	private static final ThreadLocal<SequenceFormatter> FORMATTER = ThreadLocal.withInitial(SequenceFormatter::new);
+
 	/**
 	 * Prints the provided integer array in a compact form, e.g. [1, 2, 3].
 	 *
-	 * @param arr array to print; if {@code null} prints {@code null}
+	 * @param arr array to print; if {@code null} prints {@code [ ]}
 	 */
 	public static void printArray(int[] arr) {
-		if (arr == null) {
-			System.out.println("[ ]");
-			return;
-		}
-		System.out.print("[");
-		for (int i = 0; i < arr.length; i++) {
-			System.out.print(arr[i]);
-			if (i + 1 < arr.length) System.out.print(", ");
+		try {
+			FORMATTER.get().formatArray(arr, System.out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
-		System.out.println("]");
+		System.out.println();
 	}
 
 	/**
@@ -49,11 +50,11 @@ public class ArrayHelper {
 			}
 		}
 
-		System.out.print("[");
+		final StringBuilder sb = new StringBuilder("[");
 		for (int i = 0; i < indices.length; i++) {
-			System.out.print(arr[indices[i]]);
-			if (i + 1 < indices.length) System.out.print(", ");
+			sb.append(arr[indices[i]]);
+			if (i + 1 < indices.length) sb.append(", ");
 		}
-		System.out.println("]");
+		System.out.println(sb.append(']'));
 	}
 }
@@ -0,0 +1,312 @@
+package com.learning.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Runs one operation over a large batch of independent inputs, typically the
+ * heads of many small lists, and collects the answers in primitive arrays.
+ *
+ * <p>In-memory batches ({@link Collection}s) are split over a
+ * {@link ForkJoinPool} into chunks of {@code chunkSize} items, so each task
+ * does enough work to amortize its scheduling cost. Batches that arrive from
+ * an {@link Iterator} or {@link Stream} (e.g. parsed from I/O) are cut into
+ * chunks on the calling thread and handed to a caller-supplied
+ * {@link Executor}, which can be a fixed pool or, on Java 21+, a
+ * virtual-thread-per-task executor. At most {@value #IN_FLIGHT_PER_THREAD}
+ * chunks per thread of the pool's parallelism are read ahead of the ones
+ * finished, so a fast source cannot pull the whole batch into memory.
+ *
+ * <p>Every run returns a {@link Result} with the answers in input order and
+ * the wall-clock and per-chunk timings of the batch.
+ */
+public final class BatchExecutor {
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+    /** Streamed chunks submitted but not yet finished, per thread of parallelism. */
+    public static final int IN_FLIGHT_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public BatchExecutor() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public BatchExecutor(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be >= 1: " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /** Answers and timings of one batch. */
+    public static final class Result<A> {
+        private final A values;
+        private final int items;
+        private final int chunks;
+        private final long elapsedNanos;
+        private final long busyNanos;
+        private final long maxChunkNanos;
+
+        Result(A values, int items, Timer timer) {
+            this.values = values;
+            this.items = items;
+            this.chunks = (int) timer.chunks.sum();
+            this.elapsedNanos = System.nanoTime() - timer.start;
+            this.busyNanos = timer.busy.sum();
+            this.maxChunkNanos = timer.maxChunk.get();
+        }
+
+        /** Answers in input order: an {@code int[]} or {@code boolean[]}, or {@code null} for forEach. */
+        public A values() {
+            return values;
+        }
+
+        public int items() {
+            return items;
+        }
+
+        public int chunks() {
+            return chunks;
+        }
+
+        /** Wall-clock time of the whole batch. */
+        public long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /** Sum of the time spent inside chunks across all threads. */
+        public long busyNanos() {
+            return busyNanos;
+        }
+
+        /** Slowest single chunk; far above the average hints at skewed inputs. */
+        public long maxChunkNanos() {
+            return maxChunkNanos;
+        }
+
+        public double itemsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : items * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("items=%d chunks=%d elapsed=%.3fms busy=%.3fms maxChunk=%.3fms rate=%.0f/s",
+                    items, chunks, elapsedNanos / 1e6, busyNanos / 1e6, maxChunkNanos / 1e6, itemsPerSecond());
+        }
+    }
+
+    /** Applies {@code op} to every item, e.g. {@code middle::getMiddle}. */
+    public <T> Result<int[]> mapToInt(Collection<? extends T> items, ToIntFunction<? super T> op) {
+        final List<? extends T> list = asRandomAccess(items);
+        final int[] out = new int[list.size()];
+        return run(list, out, (item, i) -> out[i] = op.applyAsInt(item));
+    }
+
+    /** Tests every item, e.g. {@code cycle::hasCycle}. */
+    public <T> Result<boolean[]> mapToBoolean(Collection<? extends T> items, Predicate<? super T> op) {
+        final List<? extends T> list = asRandomAccess(items);
+        final boolean[] out = new boolean[list.size()];
+        return run(list, out, (item, i) -> out[i] = op.test(item));
+    }
+
+    /** Runs {@code op} on every item for its side effect, e.g. {@code reorder::reorderList}. */
+    public <T> Result<Void> forEach(Collection<? extends T> items, Consumer<? super T> op) {
+        final List<? extends T> list = asRandomAccess(items);
+        return run(list, null, (item, i) -> op.accept(item));
+    }
+
+    /**
+     * Streaming variant of {@link #mapToInt(Collection, ToIntFunction)}: items
+     * are pulled from {@code source} on the calling thread, {@code chunkSize}
+     * at a time, and each chunk runs on {@code executor} while the next one is
+     * read. Reading waits while too many chunks are in flight.
+     */
+    public <T> Result<int[]> mapToInt(Iterator<? extends T> source, ToIntFunction<? super T> op, Executor executor) {
+        final Timer timer = new Timer();
+        final Chunks<int[]> chunks = submit(source, executor, timer, chunk -> {
+            final int[] answers = new int[chunk.size()];
+            for (int i = 0; i < answers.length; i++) {
+                answers[i] = op.applyAsInt(chunk.get(i));
+            }
+            return answers;
+        });
+
+        final int[] out = new int[chunks.items];
+        int position = 0;
+        for (CompletableFuture<int[]> part : chunks.parts) {
+            final int[] answers = part.join();
+            System.arraycopy(answers, 0, out, position, answers.length);
+            position += answers.length;
+        }
+        return new Result<>(out, chunks.items, timer);
+    }
+
+    /** Streaming variant of {@link #mapToBoolean(Collection, Predicate)}; see {@link #mapToInt(Iterator, ToIntFunction, Executor)}. */
+    public <T> Result<boolean[]> mapToBoolean(Iterator<? extends T> source, Predicate<? super T> op, Executor executor) {
+        final Timer timer = new Timer();
+        final Chunks<boolean[]> chunks = submit(source, executor, timer, chunk -> {
+            final boolean[] answers = new boolean[chunk.size()];
+            for (int i = 0; i < answers.length; i++) {
+                answers[i] = op.test(chunk.get(i));
+            }
+            return answers;
+        });
+
+        final boolean[] out = new boolean[chunks.items];
+        int position = 0;
+        for (CompletableFuture<boolean[]> part : chunks.parts) {
+            final boolean[] answers = part.join();
+            System.arraycopy(answers, 0, out, position, answers.length);
+            position += answers.length;
+        }
+        return new Result<>(out, chunks.items, timer);
+    }
+
+    /** Streaming variant of {@link #forEach(Collection, Consumer)}; see {@link #mapToInt(Iterator, ToIntFunction, Executor)}. */
+    public <T> Result<Void> forEach(Iterator<? extends T> source, Consumer<? super T> op, Executor executor) {
+        final Timer timer = new Timer();
+        final Chunks<Void> chunks = submit(source, executor, timer, chunk -> {
+            chunk.forEach(op);
+            return null;
+        });
+        for (CompletableFuture<Void> part : chunks.parts) {
+            part.join();
+        }
+        return new Result<>(null, chunks.items, timer);
+    }
+
+    /** Runs {@link #mapToInt(Iterator, ToIntFunction, Executor)} over {@code source}'s iterator. */
+    public <T> Result<int[]> mapToInt(Stream<? extends T> source, ToIntFunction<? super T> op, Executor executor) {
+        return mapToInt(source.iterator(), op, executor);
+    }
+
+    /** Runs {@link #mapToBoolean(Iterator, Predicate, Executor)} over {@code source}'s iterator. */
+    public <T> Result<boolean[]> mapToBoolean(Stream<? extends T> source, Predicate<? super T> op, Executor executor) {
+        return mapToBoolean(source.iterator(), op, executor);
+    }
+
+    /** Runs {@link #forEach(Iterator, Consumer, Executor)} over {@code source}'s iterator. */
+    public <T> Result<Void> forEach(Stream<? extends T> source, Consumer<? super T> op, Executor executor) {
+        return forEach(source.iterator(), op, executor);
+    }
+
+    /** Futures of the submitted chunks in input order, and how many items they hold. */
+    private static final class Chunks<P> {
+        final List<CompletableFuture<P>> parts = new ArrayList<>();
+        int items;
+    }
+
+    /**
+     * Cuts {@code source} into chunks and runs {@code work} on each one on
+     * {@code executor}, waiting for a permit before reading the next chunk.
+     */
+    private <T, P> Chunks<P> submit(Iterator<? extends T> source, Executor executor, Timer timer,
+                                    Function<List<T>, P> work) {
+        final Semaphore inFlight = new Semaphore(IN_FLIGHT_PER_THREAD * pool.getParallelism());
+        final Chunks<P> chunks = new Chunks<>();
+        while (source.hasNext()) {
+            inFlight.acquireUninterruptibly();
+            final List<T> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && source.hasNext()) {
+                chunk.add(source.next());
+            }
+            chunks.items += chunk.size();
+            chunks.parts.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    final long start = System.nanoTime();
+                    final P answers = work.apply(chunk);
+                    timer.record(System.nanoTime() - start);
+                    return answers;
+                } finally {
+                    inFlight.release();
+                }
+            }, executor));
+        }
+        return chunks;
+    }
+
+    @FunctionalInterface
+    private interface IndexedAction<T> {
+        void apply(T item, int index);
+    }
+
+    private <T, A> Result<A> run(List<? extends T> list, A out, IndexedAction<T> action) {
+        final Timer timer = new Timer();
+        if (!list.isEmpty()) {
+            pool.invoke(new ChunkTask<>(list, 0, list.size(), action, timer));
+        }
+        return new Result<>(out, list.size(), timer);
+    }
+
+    @SuppressWarnings("serial")
+    private final class ChunkTask<T> extends RecursiveAction {
+        private final List<? extends T> items;
+        private final int from;
+        private final int to;
+        private final IndexedAction<T> action;
+        private final Timer timer;
+
+        ChunkTask(List<? extends T> items, int from, int to, IndexedAction<T> action, Timer timer) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.action = action;
+            this.timer = timer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                final long start = System.nanoTime();
+                for (int i = from; i < to; i++) {
+                    action.apply(items.get(i), i);
+                }
+                timer.record(System.nanoTime() - start);
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask<>(items, from, mid, action, timer),
+                    new ChunkTask<>(items, mid, to, action, timer));
+        }
+    }
+
+    /** Batch start time plus per-chunk counters updated from worker threads. */
+    private static final class Timer {
+        final long start = System.nanoTime();
+        final LongAdder chunks = new LongAdder();
+        final LongAdder busy = new LongAdder();
+        final AtomicLong maxChunk = new AtomicLong();
+
+        void record(long nanos) {
+            chunks.increment();
+            busy.add(nanos);
+            maxChunk.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<? extends T> asRandomAccess(Collection<? extends T> items) {
+        if (items instanceof List && items instanceof RandomAccess) {
+            return (List<? extends T>) items;
+        }
+        return (List<T>) Arrays.asList(items.toArray());
+    }
+}
@@ -1,11 +1,17 @@
 package com.learning.utils;
 
 import com.learning.model.Node;
+import com.learning.model.NodeArena;
+import com.learning.model.NodePool;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Random;
 
 public class LinkedListHelper {
 
+    private static final ThreadLocal<SequenceFormatter> FORMATTER = ThreadLocal.withInitial(SequenceFormatter::new);
+
     /**
      * Creates a linked list from a specific array of integers.
      * Usage: Node head = LinkedListHelper.fromArray(new int[]{1, 2, 3});
@@ -47,15 +53,193 @@ public class LinkedListHelper {
         return head;
     }
 
+    /**
+     * Creates a linked list from the values using nodes drawn from {@code pool}.
+     * Usage: Node head = LinkedListHelper.fromArray(new int[]{1, 2, 3}, pool);
+     * Return it with pool.release(head) once it is no longer needed.
+     */
+    public static Node fromArray(final int[] values, final NodePool pool) {
+        if (values == null || values.length == 0) {
+            return null;
+        }
+
+        final Node head = pool.acquire(values[0]);
+        Node current = head;
+
+        for (int i = 1; i < values.length; i++) {
+            final Node newNode = pool.acquire(values[i]);
+            current.setNext(newNode);
+            current = newNode;
+        }
+        return head;
+    }
+
+    /**
+     * Generates a reproducible linked list of random numbers (0-99): the same
+     * {@code seed} always gives the same list.
+     * Usage: Node head = LinkedListHelper.generateRandom(5, 42L);
+     * See {@link WorkloadGenerator} for other distributions and list shapes.
+     */
+    public static Node generateRandom(final int length, final long seed) {
+        if (length <= 0) {
+            return null;
+        }
+
+        final WorkloadGenerator generator = new WorkloadGenerator(seed);
+        return generator.list(generator.ints(length, WorkloadGenerator.Distribution.uniform(0, 99)));
+    }
+
+    /**
+     * Generates a linked list of random numbers (0-99) using nodes drawn from {@code pool}.
+     */
+    public static Node generateRandom(final int length, final NodePool pool) {
+        if (length <= 0) {
+            return null;
+        }
+
+        final Random rand = new Random();
+        final Node head = pool.acquire(rand.nextInt(100));
+        Node current = head;
+
+        for (int i = 1; i < length; i++) {
+            final Node newNode = pool.acquire(rand.nextInt(100));
+            current.setNext(newNode);
+            current = newNode;
+        }
+        return head;
+    }
+
+    /**
+     * Appends the values to {@code arena} as a new list and returns the index of its head.
+     * Usage: int head = LinkedListHelper.fromArray(arena, new int[]{1, 2, 3});
+     */
+    public static int fromArray(final NodeArena arena, final int[] values) {
+        if (values == null || values.length == 0) {
+            return NodeArena.NIL;
+        }
+
+        final int head = arena.allocate(values[0]);
+        int current = head;
+
+        for (int i = 1; i < values.length; i++) {
+            final int newNode = arena.allocate(values[i]);
+            arena.setNext(current, newNode);
+            current = newNode;
+        }
+        return head;
+    }
+
+    /**
+     * Copies the chain starting at {@code head} into {@code arena} and returns the
+     * index of the copied head. A cycle in the source list is reproduced in the copy.
+     */
+    public static int toArena(final Node head, final NodeArena arena) {
+        if (head == null) {
+            return NodeArena.NIL;
+        }
+
+        final Node cycleStart = findCycleStart(head);
+        final int arenaHead = arena.allocate(head.getData());
+        int arenaCycleStart = head == cycleStart ? arenaHead : NodeArena.NIL;
+        int current = arenaHead;
+
+        Node node = head.getNext();
+        while (node != null) {
+            if (node == cycleStart && arenaCycleStart != NodeArena.NIL) {
+                arena.setNext(current, arenaCycleStart);
+                break;
+            }
+            final int copy = arena.allocate(node.getData());
+            arena.setNext(current, copy);
+            if (node == cycleStart) {
+                arenaCycleStart = copy;
+            }
+            current = copy;
+            node = node.getNext();
+        }
+        return arenaHead;
+    }
+
+    /**
+     * Builds a {@link Node} chain from the arena list starting at {@code head}.
+     * A cycle in the arena list is reproduced in the returned chain.
+     */
+    public static Node fromArena(final NodeArena arena, final int head) {
+        if (head == NodeArena.NIL) {
+            return null;
+        }
+
+        final int cycleStart = findCycleStart(arena, head);
+        final Node nodeHead = new Node(arena.getData(head));
+        Node nodeCycleStart = head == cycleStart ? nodeHead : null;
+        Node current = nodeHead;
+
+        int index = arena.getNext(head);
+        while (index != NodeArena.NIL) {
+            if (index == cycleStart && nodeCycleStart != null) {
+                current.setNext(nodeCycleStart);
+                break;
+            }
+            final Node copy = new Node(arena.getData(index));
+            current.setNext(copy);
+            if (index == cycleStart) {
+                nodeCycleStart = copy;
+            }
+            current = copy;
+            index = arena.getNext(index);
+        }
+        return nodeHead;
+    }
+
     /**
      * Prints the list in a readable format: 1 -> 2 -> 3 -> NULL
+     * A cyclic list ends with the index the loop returns to: 1 -> 2 -> 3 -> (cycle to #1)
      */
     public static void printList(final Node head) {
-        Node current = head;
-        while (current != null) {
-            System.out.print(current.getData() + " -> ");
-            current = current.getNext();
+        try {
+            FORMATTER.get().formatList(head, System.out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Returns the node where the cycle begins, or {@code null} for an acyclic list (Floyd).
+     */
+    private static Node findCycleStart(final Node head) {
+        Node slow = head;
+        Node fast = head;
+        while (fast != null && fast.getNext() != null) {
+            slow = slow.getNext();
+            fast = fast.getNext().getNext();
+            if (slow == fast) {
+                Node entry = head;
+                while (entry != slow) {
+                    entry = entry.getNext();
+                    slow = slow.getNext();
+                }
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static int findCycleStart(final NodeArena arena, final int head) {
+        int slow = head;
+        int fast = head;
+        while (fast != NodeArena.NIL && arena.getNext(fast) != NodeArena.NIL) {
+            slow = arena.getNext(slow);
+            fast = arena.getNext(arena.getNext(fast));
+            if (slow == fast) {
+                int entry = head;
+                while (entry != slow) {
+                    entry = arena.getNext(entry);
+                    slow = arena.getNext(slow);
+                }
+                return entry;
+            }
         }
-        System.out.println("NULL");
+        return NodeArena.NIL;
     }
 }
@@ -0,0 +1,300 @@
+package com.learning.utils;
+
+import com.learning.model.Node;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formats int arrays and linked lists into an {@link Appendable} or a
+ * {@link WritableByteChannel}.
+ *
+ * <p>Output is assembled as ASCII in one reusable byte buffer and handed to
+ * the target only when the buffer is full, so a large sequence costs a few
+ * writes instead of one call (and one lock) per element. At most
+ * {@code maxElements} elements are written; longer input ends in {@code ...}.
+ *
+ * <p>Lists are checked for a cycle with Brent's algorithm before printing, and
+ * the check never walks more than about three times the number of nodes that
+ * will be printed. A cyclic list is printed up to the last node of the loop,
+ * followed by the index of the node the loop returns to:
+ * {@code 1 -> 2 -> 3 -> (cycle to #1)}.
+ *
+ * <p>Instances are not thread-safe; use one per thread.
+ */
+public final class SequenceFormatter {
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    /** Room reserved per element: "-2147483648 -> " fits easily. */
+    private static final int MAX_TOKEN = 32;
+
+    private static final byte[] NULL_ARRAY = ascii("[ ]");
+    private static final byte[] ARRAY_SEPARATOR = ascii(", ");
+    private static final byte[] LIST_SEPARATOR = ascii(" -> ");
+    private static final byte[] LIST_END = ascii("NULL");
+    private static final byte[] ELLIPSIS = ascii("...");
+    private static final byte[] CYCLE_TO = ascii("(cycle to #");
+    private static final byte[] MIN_INT = ascii(Integer.toString(Integer.MIN_VALUE));
+    /** "00" "01" ... "99", two bytes per pair, so digits are emitted two at a time. */
+    private static final byte[] DIGIT_PAIRS = new byte[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[i << 1] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[(i << 1) + 1] = (byte) ('0' + i % 10);
+        }
+    }
+
+    /** Destination of a full buffer. */
+    private interface Sink {
+        void write(byte[] bytes, int length) throws IOException;
+    }
+
+    private final int maxElements;
+    private final byte[] buffer;
+    private int position;
+
+    public SequenceFormatter() {
+        this(UNLIMITED);
+    }
+
+    public SequenceFormatter(int maxElements) {
+        this(maxElements, DEFAULT_BUFFER_SIZE);
+    }
+
+    public SequenceFormatter(int maxElements, int bufferSize) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("maxElements must be >= 0: " + maxElements);
+        }
+        if (bufferSize < MAX_TOKEN) {
+            throw new IllegalArgumentException("bufferSize must be >= " + MAX_TOKEN + ": " + bufferSize);
+        }
+        this.maxElements = maxElements;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /** Writes {@code arr} as {@code [1, 2, 3]}, or {@code [ ]} if it is {@code null}. */
+    public void formatArray(int[] arr, Appendable out) throws IOException {
+        formatArray(arr, appendableSink(out));
+    }
+
+    public void formatArray(int[] arr, WritableByteChannel out) throws IOException {
+        formatArray(arr, channelSink(out));
+    }
+
+    /** Writes the list starting at {@code head} as {@code 1 -> 2 -> 3 -> NULL}. */
+    public void formatList(Node head, Appendable out) throws IOException {
+        formatList(head, appendableSink(out));
+    }
+
+    public void formatList(Node head, WritableByteChannel out) throws IOException {
+        formatList(head, channelSink(out));
+    }
+
+    public String format(int[] arr) {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            formatArray(arr, sb);
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw", e);
+        }
+        return sb.toString();
+    }
+
+    public String format(Node head) {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            formatList(head, sb);
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw", e);
+        }
+        return sb.toString();
+    }
+
+    private void formatArray(int[] arr, Sink sink) throws IOException {
+        position = 0;
+        if (arr == null) {
+            put(NULL_ARRAY, sink);
+        } else {
+            final int shown = Math.min(arr.length, maxElements);
+            putByte('[', sink);
+            for (int i = 0; i < shown; i++) {
+                ensure(MAX_TOKEN, sink);
+                if (i > 0) {
+                    append(ARRAY_SEPARATOR);
+                }
+                appendInt(arr[i]);
+            }
+            if (shown < arr.length) {
+                if (shown > 0) {
+                    put(ARRAY_SEPARATOR, sink);
+                }
+                put(ELLIPSIS, sink);
+            }
+            putByte(']', sink);
+        }
+        sink.write(buffer, position);
+        position = 0;
+    }
+
+    private void formatList(Node head, Sink sink) throws IOException {
+        position = 0;
+
+        // Nodes are distinct up to index mu + lambda - 1, so that is all a cycle needs.
+        final long cycle = findCycle(head, 3L * maxElements + 3);
+        final long distinct = cycle < 0 ? Long.MAX_VALUE : mu(cycle) + lambda(cycle);
+
+        Node node = head;
+        long written = 0;
+        while (node != null && written < distinct && written < maxElements) {
+            ensure(MAX_TOKEN, sink);
+            appendInt(node.getData());
+            append(LIST_SEPARATOR);
+            node = node.getNext();
+            written++;
+        }
+
+        if (node == null) {
+            put(LIST_END, sink);
+        } else if (written == distinct) {
+            put(CYCLE_TO, sink);
+            ensure(MAX_TOKEN, sink);
+            appendInt(mu(cycle));
+            putByte(')', sink);
+        } else {
+            put(ELLIPSIS, sink);
+        }
+        sink.write(buffer, position);
+        position = 0;
+    }
+
+    /**
+     * Brent's algorithm limited to {@code maxSteps} moves. Returns the cycle
+     * start index (high half) and length (low half), or -1 if the list ends or
+     * no cycle was found within the limit.
+     */
+    private static long findCycle(Node head, long maxSteps) {
+        if (head == null) {
+            return -1;
+        }
+
+        int power = 1;
+        int lambda = 1;
+        Node checkpoint = head;
+        Node hare = head.getNext();
+        long steps = 1;
+        while (hare != checkpoint) {
+            if (hare == null || steps++ >= maxSteps) {
+                return -1;
+            }
+            if (power == lambda) {
+                checkpoint = hare;
+                power <<= 1;
+                lambda = 0;
+            }
+            hare = hare.getNext();
+            lambda++;
+        }
+
+        Node tortoise = head;
+        hare = head;
+        for (int i = 0; i < lambda; i++) {
+            hare = hare.getNext();
+        }
+        int mu = 0;
+        while (tortoise != hare) {
+            tortoise = tortoise.getNext();
+            hare = hare.getNext();
+            mu++;
+        }
+        return ((long) mu << 32) | lambda;
+    }
+
+    private static int mu(long cycle) {
+        return (int) (cycle >>> 32);
+    }
+
+    private static int lambda(long cycle) {
+        return (int) cycle;
+    }
+
+    private void put(byte[] bytes, Sink sink) throws IOException {
+        ensure(bytes.length, sink);
+        append(bytes);
+    }
+
+    private void putByte(char c, Sink sink) throws IOException {
+        ensure(1, sink);
+        buffer[position++] = (byte) c;
+    }
+
+    /** Copies a short token; the caller has ensured there is room. */
+    private void append(byte[] bytes) {
+        int p = position;
+        for (byte b : bytes) {
+            buffer[p++] = b;
+        }
+        position = p;
+    }
+
+    /** Writes {@code value} in decimal; the caller has ensured 11 bytes of room. */
+    private void appendInt(int value) {
+        if (value == Integer.MIN_VALUE) {
+            append(MIN_INT);
+            return;
+        }
+        int v = value;
+        if (v < 0) {
+            buffer[position++] = '-';
+            v = -v;
+        }
+        int i = position + digitCount(v);
+        position = i;
+        while (v >= 100) {
+            final int pair = (v % 100) << 1;
+            v /= 100;
+            buffer[--i] = DIGIT_PAIRS[pair + 1];
+            buffer[--i] = DIGIT_PAIRS[pair];
+        }
+        if (v >= 10) {
+            buffer[--i] = DIGIT_PAIRS[(v << 1) + 1];
+            buffer[--i] = DIGIT_PAIRS[v << 1];
+        } else {
+            buffer[--i] = (byte) ('0' + v);
+        }
+    }
+
+    private static int digitCount(int v) {
+        if (v < 100_000) {
+            return v < 100 ? (v < 10 ? 1 : 2) : (v < 1_000 ? 3 : v < 10_000 ? 4 : 5);
+        }
+        return v < 10_000_000 ? (v < 1_000_000 ? 6 : 7) : (v < 100_000_000 ? 8 : v < 1_000_000_000 ? 9 : 10);
+    }
+
+    private void ensure(int bytes, Sink sink) throws IOException {
+        if (position + bytes > buffer.length) {
+            sink.write(buffer, position);
+            position = 0;
+        }
+    }
+
+    private static Sink appendableSink(Appendable out) {
+        return (bytes, length) -> out.append(new String(bytes, 0, length, StandardCharsets.ISO_8859_1));
+    }
+
+    private static Sink channelSink(WritableByteChannel out) {
+        return (bytes, length) -> {
+            final ByteBuffer chunk = ByteBuffer.wrap(bytes, 0, length);
+            while (chunk.hasRemaining()) {
+                out.write(chunk);
+            }
+        };
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
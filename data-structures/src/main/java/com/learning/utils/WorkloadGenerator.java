@@ -0,0 +1,272 @@
+package com.learning.utils;
+
+import com.learning.model.Node;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Reproducible, parallel generator of arrays and linked lists for benchmarks
+ * and demos.
+ *
+ * <p>Output is split into fixed blocks of {@value #BLOCK} elements and each
+ * block draws from its own {@link SplittableRandom} whose seed depends only on
+ * the generator seed, the call and the block index. Blocks are filled in
+ * parallel, yet the data never depends on the number of threads or on how
+ * the work was scheduled.
+ *
+ * <p>Every call consumes one stream, so two generators with the same seed
+ * produce the same sequence of results when called in the same order.
+ */
+public final class WorkloadGenerator {
+    static final int BLOCK = 1 << 16;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** Draws one value; must only use the supplied random source. */
+    @FunctionalInterface
+    public interface Distribution {
+        int sample(SplittableRandom random);
+
+        /** Applies {@code f} to every value drawn from this distribution. */
+        default Distribution map(IntUnaryOperator f) {
+            return random -> f.applyAsInt(sample(random));
+        }
+
+        /** Uniform over {@code [min, max]}, both inclusive. */
+        static Distribution uniform(int min, int max) {
+            if (min > max) {
+                throw new IllegalArgumentException("min > max: " + min + " > " + max);
+            }
+            if (max == Integer.MAX_VALUE) {
+                if (min == Integer.MIN_VALUE) {
+                    return SplittableRandom::nextInt;
+                }
+                return random -> (int) random.nextLong(min, (long) max + 1);
+            }
+            return random -> random.nextInt(min, max + 1);
+        }
+
+        /** Normal with the given mean and standard deviation, rounded and clamped to int. */
+        static Distribution normal(double mean, double stddev) {
+            return random -> {
+                // Box-Muller; only one of the pair is used so each draw is independent.
+                final double u = 1.0 - random.nextDouble();
+                final double z = Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * random.nextDouble());
+                return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, Math.round(mean + stddev * z)));
+            };
+        }
+
+        /**
+         * Zipf over {@code 1..n}: value k is drawn with probability proportional
+         * to {@code 1 / k^exponent}, so a few small values dominate.
+         */
+        static Distribution zipf(int n, double exponent) {
+            if (n < 1) {
+                throw new IllegalArgumentException("n must be >= 1: " + n);
+            }
+            final double[] cumulative = new double[n];
+            double total = 0;
+            for (int k = 1; k <= n; k++) {
+                total += 1.0 / Math.pow(k, exponent);
+                cumulative[k - 1] = total;
+            }
+            final double sum = total;
+            return random -> {
+                final int i = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+                return Math.min(n, (i < 0 ? -i - 1 : i) + 1);
+            };
+        }
+    }
+
+    private final long seed;
+    private final AtomicLong calls = new AtomicLong();
+
+    public WorkloadGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /** Returns {@code n} independent draws from {@code distribution}. */
+    public int[] ints(int n, Distribution distribution) {
+        final int[] values = new int[n];
+        fill(values, 0, n, distribution, nextStream());
+        return values;
+    }
+
+    /** Draws from {@code distribution} and sorts ascending, e.g. for {@code TwoSum}. */
+    public int[] sorted(int n, Distribution distribution) {
+        final int[] values = ints(n, distribution);
+        Arrays.parallelSort(values);
+        return values;
+    }
+
+    /** Returns a palindrome of length {@code n}: the first half is drawn, the rest mirrors it. */
+    public int[] palindrome(int n, Distribution distribution) {
+        final int[] values = new int[n];
+        final int half = (n + 1) / 2;
+        fill(values, 0, half, distribution, nextStream());
+        IntStream.range(half, n).parallel().forEach(i -> values[i] = values[n - 1 - i]);
+        return values;
+    }
+
+    /**
+     * Returns a jump table for {@code CircularArrayLoop}. Every jump moves
+     * forward by 1 to {@code maxJump} positions without wrapping, and the last
+     * element jumps onto itself, so the table has no valid loop. With
+     * {@code loopLength >= 2}, a forward loop of that many consecutive
+     * elements is planted at a random position and every valid loop is that one.
+     */
+    public int[] jumpTable(int n, int maxJump, int loopLength) {
+        if (maxJump < 1) {
+            throw new IllegalArgumentException("maxJump must be >= 1: " + maxJump);
+        }
+        if (loopLength == 1 || loopLength < 0 || loopLength > n) {
+            throw new IllegalArgumentException("loopLength must be 0 or in [2, " + n + "]: " + loopLength);
+        }
+
+        final long stream = nextStream();
+        final int[] jumps = new int[n];
+        final int blocks = blockCount(n);
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            final SplittableRandom random = blockRandom(stream, block);
+            final int end = Math.min(n, (block + 1) * BLOCK);
+            for (int i = block * BLOCK; i < end; i++) {
+                final int room = n - 1 - i;
+                jumps[i] = room == 0 ? n : 1 + random.nextInt(Math.min(maxJump, room));
+            }
+        });
+
+        if (loopLength > 0) {
+            final int start = blockRandom(stream, blocks).nextInt(n - loopLength + 1);
+            final int last = start + loopLength - 1;
+            for (int i = start; i < last; i++) {
+                jumps[i] = 1;
+            }
+            // Forward past the end of the array and back around to start.
+            jumps[last] = n - loopLength + 1;
+        }
+        return jumps;
+    }
+
+    /** Builds a linked list holding {@code values}, creating the nodes in parallel. */
+    public Node list(int[] values) {
+        return Chain.of(values).head();
+    }
+
+    /**
+     * Returns a list of {@code n} drawn values whose tail links back to node
+     * {@code k}, or an acyclic list if {@code k < 0}.
+     */
+    public Node listWithCycle(int n, Distribution distribution, int k) {
+        if (k >= n) {
+            throw new IllegalArgumentException("k must be < n: " + k + " >= " + n);
+        }
+        final Chain chain = Chain.of(ints(n, distribution));
+        if (k >= 0) {
+            chain.tail.setNext(chain.nodeAt(k));
+        }
+        return chain.head();
+    }
+
+    /**
+     * Returns the heads of two lists that share their last {@code shared}
+     * nodes. List A has {@code prefixA} nodes of its own, so the shared tail
+     * starts at offset {@code prefixA} in A and {@code prefixB} in B.
+     * A head is {@code null} if that list is empty.
+     */
+    public Node[] sharedTail(int prefixA, int prefixB, int shared, Distribution distribution) {
+        final int[] values = ints(prefixA + prefixB + shared, distribution);
+        final Chain a = Chain.of(Arrays.copyOfRange(values, 0, prefixA));
+        final Chain b = Chain.of(Arrays.copyOfRange(values, prefixA, prefixA + prefixB));
+        final Chain tail = Chain.of(Arrays.copyOfRange(values, prefixA + prefixB, values.length));
+
+        final Node headA = a.tail == null ? tail.head() : a.head();
+        final Node headB = b.tail == null ? tail.head() : b.head();
+        if (a.tail != null) {
+            a.tail.setNext(tail.head());
+        }
+        if (b.tail != null) {
+            b.tail.setNext(tail.head());
+        }
+        return new Node[]{headA, headB};
+    }
+
+    private long nextStream() {
+        return mix64(seed + GOLDEN_GAMMA * calls.incrementAndGet());
+    }
+
+    private static void fill(int[] values, int from, int to, Distribution distribution, long stream) {
+        IntStream.range(0, blockCount(to - from)).parallel().forEach(block -> {
+            final SplittableRandom random = blockRandom(stream, block);
+            final int start = from + block * BLOCK;
+            final int end = Math.min(to, start + BLOCK);
+            for (int i = start; i < end; i++) {
+                values[i] = distribution.sample(random);
+            }
+        });
+    }
+
+    private static SplittableRandom blockRandom(long stream, int block) {
+        return new SplittableRandom(mix64(stream + GOLDEN_GAMMA * (block + 1L)));
+    }
+
+    private static int blockCount(int n) {
+        return (n + BLOCK - 1) / BLOCK;
+    }
+
+    /** Stafford variant 13 of the MurmurHash3 finalizer, as used by SplittableRandom. */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** A list built block by block; keeps each block's first node for fast indexing. */
+    private static final class Chain {
+        private final Node[] blockHeads;
+        private final Node tail;
+
+        private Chain(Node[] blockHeads, Node tail) {
+            this.blockHeads = blockHeads;
+            this.tail = tail;
+        }
+
+        static Chain of(int[] values) {
+            final int blocks = blockCount(values.length);
+            final Node[] heads = new Node[blocks];
+            final Node[] tails = new Node[blocks];
+            IntStream.range(0, blocks).parallel().forEach(block -> {
+                final int start = block * BLOCK;
+                final int end = Math.min(values.length, start + BLOCK);
+                final Node head = new Node(values[start]);
+                Node current = head;
+                for (int i = start + 1; i < end; i++) {
+                    final Node next = new Node(values[i]);
+                    current.setNext(next);
+                    current = next;
+                }
+                heads[block] = head;
+                tails[block] = current;
+            });
+            for (int block = 1; block < blocks; block++) {
+                tails[block - 1].setNext(heads[block]);
+            }
+            return new Chain(heads, blocks == 0 ? null : tails[blocks - 1]);
+        }
+
+        Node head() {
+            return blockHeads.length == 0 ? null : blockHeads[0];
+        }
+
+        Node nodeAt(int index) {
+            Node node = blockHeads[index / BLOCK];
+            for (int i = index % BLOCK; i > 0; i--) {
+                node = node.getNext();
+            }
+            return node;
+        }
+    }
+}
@@ -1,11 +1,55 @@
 package com.learning.patterns.creational.factory;
 
+import java.util.concurrent.TimeUnit;
+
 public class App {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
         Notification email = NotificationFactory.getNotification(NotificationEnum.EMAIL);
         email.sendMessage();
 
         Notification sms = NotificationFactory.getNotification(NotificationEnum.SMS);
         sms.sendMessage();
+
+        // Loaded through ServiceLoader on first use, then cached
+        Notification push = NotificationFactory.getNotification("PUSH");
+        push.sendMessage();
+
+        System.out.println("Shared instance: " + (email == NotificationFactory.getNotification(NotificationEnum.EMAIL)));
+
+        // Asynchronous sends: submit returns at once, flush waits for delivery
+        NotificationMetrics metrics = new NotificationMetrics();
+        try (NotificationDispatcher dispatcher = NotificationDispatcher.builder()
+                .backpressure(NotificationEnum.SMS, NotificationDispatcher.Backpressure.DROP)
+                .metrics(metrics)
+                .build()) {
+            dispatcher.submit(NotificationEnum.EMAIL);
+            dispatcher.submit(NotificationEnum.SMS);
+            dispatcher.flush();
+        }
+        System.out.print(metrics.snapshot());
+
+        // Repeats within the window are dropped before they reach the rate limit
+        NotificationThrottle throttle = NotificationThrottle.builder()
+                .rate(NotificationEnum.SMS, 10, 2)
+                .dedupe(30, TimeUnit.SECONDS, 1024)
+                .build();
+        System.out.println("First SMS: " + throttle.tryAcquire(NotificationEnum.SMS, "+15550100", "Your code is 1234"));
+        System.out.println("Repeat SMS: " + throttle.tryAcquire(NotificationEnum.SMS, "+15550100", "Your code is 1234"));
+
+        // Templates are compiled once; sends render UTF-8 bytes into a reused direct buffer
+        TemplateCache.getDefault().register(NotificationEnum.SMS, "otp", "Your code is {code}. Valid for {minutes} min.");
+        TemplateCache.getDefault().register(NotificationEnum.EMAIL, "welcome", "Hello {name}, welcome aboard \u2014 the {team} team");
+        sms.sendMessage(new Message.Builder()
+                .recipient("+15550100")
+                .template("otp")
+                .param("code", "1234")
+                .param("minutes", "5")
+                .build());
+        email.sendMessage(new Message.Builder()
+                .recipient("jane@example.com")
+                .template("welcome")
+                .param("name", "Zo\u00eb")
+                .param("team", "platform")
+                .build());
     }
 }
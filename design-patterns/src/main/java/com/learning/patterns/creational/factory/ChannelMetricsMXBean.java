@@ -0,0 +1,25 @@
+package com.learning.patterns.creational.factory;
+
+/**
+ * JMX view of one channel's {@link NotificationMetrics}, registered as
+ * {@code com.learning.patterns.creational.factory:type=NotificationMetrics,channel=<CHANNEL>}.
+ * Latencies are in microseconds.
+ */
+public interface ChannelMetricsMXBean {
+    long getSuccessCount();
+
+    long getFailureCount();
+
+    double getSendMeanMicros();
+
+    double getSendP50Micros();
+
+    double getSendP99Micros();
+
+    double getQueueP99Micros();
+
+    double getEndToEndP99Micros();
+
+    /** The channel's section of {@link NotificationMetrics#snapshot()}. */
+    String getSnapshot();
+}
@@ -0,0 +1,136 @@
+package com.learning.patterns.creational.factory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Remembers recently seen 64-bit message keys for a fixed window, so that
+ * repeats inside the window can be dropped.
+ *
+ * <p>The table is a fixed array of {@code long}s, one entry per slot: the high
+ * 24 bits hold a fingerprint of the key and the low 40 bits its expiry, in
+ * milliseconds since the table was created, which lasts about 34 years
+ * without wrapping. A key maps to a run of
+ * {@value #PROBES} slots and lives in one of them. Because an entry is a
+ * single word, inserting, renewing and evicting are each one compare-and-set,
+ * with no locks. When all slots of a run are live, the entry closest to
+ * expiry is evicted, so memory stays bounded and an overloaded table forgets
+ * early rather than growing.
+ *
+ * <p>The check is best effort: two threads racing with the same new key can
+ * both be let through, and distinct keys with equal fingerprint and run are
+ * treated as duplicates (about one in 2^24 per pair sharing a run).
+ */
+public class DedupeWindow {
+    private static final int PROBES = 8;
+    private static final int EXPIRY_BITS = 40;
+    private static final long EXPIRY_MASK = (1L << EXPIRY_BITS) - 1;
+    /** Half the expiry range (about 17 years), leaving the other half for the clock. */
+    private static final long MAX_WINDOW_MILLIS = EXPIRY_MASK >>> 1;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long windowMillis;
+    private final long origin = System.nanoTime();
+
+    /**
+     * @param window how long a key is remembered
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public DedupeWindow(long window, TimeUnit unit, int capacity) {
+        this.windowMillis = unit.toMillis(window);
+        if (windowMillis < 1 || windowMillis > MAX_WINDOW_MILLIS) {
+            throw new IllegalArgumentException("window must be between 1 ms and about 17 years: " + window + " " + unit);
+        }
+        if (capacity < PROBES || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be in [" + PROBES + ", 2^30]: " + capacity);
+        }
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    /** 64-bit key of a recipient and content pair, computed without allocating. */
+    public static long key(CharSequence recipient, CharSequence content) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < recipient.length(); i++) {
+            hash = (hash ^ recipient.charAt(i)) * 0x100000001b3L;
+        }
+        hash = (hash ^ 0xFFFF) * 0x100000001b3L; // separator, so ("ab", "c") != ("a", "bc")
+        for (int i = 0; i < content.length(); i++) {
+            hash = (hash ^ content.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns {@code true} and remembers {@code key} if it was not seen in the
+     * last window, or {@code false} if it is a duplicate.
+     */
+    public boolean firstSeen(long key) {
+        return firstSeen(key, nowMillis());
+    }
+
+    /** {@link #firstSeen(long)} at {@code now}, in milliseconds since the table was created. */
+    boolean firstSeen(long key, long now) {
+        final long mixed = mix(key);
+        final long fingerprint = mixed >>> EXPIRY_BITS;
+        final int start = (int) mixed & mask;
+        final long entry = fingerprint << EXPIRY_BITS | ((now + windowMillis) & EXPIRY_MASK);
+
+        while (true) {
+            // Any live match means a duplicate; otherwise claim the first free or
+            // expired slot, or else evict the live entry closest to expiry.
+            int victim = -1;
+            long victimValue = 0;
+            long victimRemaining = Long.MAX_VALUE;
+            for (int i = 0; i < PROBES; i++) {
+                final int slot = (start + i) & mask;
+                final long value = slots.get(slot);
+                final long remaining = value == 0 ? 0 : (value & EXPIRY_MASK) - now;
+                if (remaining > 0) {
+                    if (value >>> EXPIRY_BITS == fingerprint) {
+                        return false;
+                    }
+                    if (remaining < victimRemaining) {
+                        victim = slot;
+                        victimValue = value;
+                        victimRemaining = remaining;
+                    }
+                } else if (victimRemaining > 0) {
+                    victim = slot;
+                    victimValue = value;
+                    victimRemaining = 0;
+                }
+            }
+            if (slots.compareAndSet(victim, victimValue, entry)) {
+                return true;
+            }
+        }
+    }
+
+    /** Drops {@code key} from the window, e.g. when its message was not sent after all. */
+    public void forget(long key) {
+        final long mixed = mix(key);
+        final long fingerprint = mixed >>> EXPIRY_BITS;
+        final int start = (int) mixed & mask;
+        for (int i = 0; i < PROBES; i++) {
+            final int slot = (start + i) & mask;
+            final long value = slots.get(slot);
+            if (value != 0 && value >>> EXPIRY_BITS == fingerprint) {
+                slots.compareAndSet(slot, value, 0L);
+                return;
+            }
+        }
+    }
+
+    private long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - origin);
+    }
+
+    private static long mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+        key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return key ^ (key >>> 33);
+    }
+}
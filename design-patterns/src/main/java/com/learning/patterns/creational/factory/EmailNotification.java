@@ -1,6 +1,14 @@
 package com.learning.patterns.creational.factory;
 
-public class EmailNotification implements Notification {
+public class EmailNotification extends TemplatedNotification {
+    public EmailNotification() {
+        this(TemplateCache.getDefault(), MessageTransport.console("Email"));
+    }
+
+    public EmailNotification(TemplateCache templates, MessageTransport transport) {
+        super(NotificationEnum.EMAIL, templates, transport);
+    }
+
     @Override
     public void sendMessage() {
         System.out.println("Sending Email...");
@@ -0,0 +1,27 @@
+package com.learning.patterns.creational.factory;
+
+/**
+ * Decorator that times every {@link #sendMessage()} of the wrapped
+ * notification and counts successes and failures in a {@link NotificationMetrics}.
+ */
+public class InstrumentedNotification implements Notification {
+    private final Notification delegate;
+    private final NotificationEnum channel;
+    private final NotificationMetrics metrics;
+
+    public InstrumentedNotification(Notification delegate, NotificationEnum channel, NotificationMetrics metrics) {
+        this.delegate = delegate;
+        this.channel = channel;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void sendMessage() {
+        metrics.timeSend(channel, delegate, null);
+    }
+
+    @Override
+    public void sendMessage(Message message) {
+        metrics.timeSend(channel, delegate, message);
+    }
+}
@@ -0,0 +1,115 @@
+package com.learning.patterns.creational.factory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent histogram of durations in nanoseconds with log-linear buckets:
+ * every power of two is split into 8 equal buckets, so any recorded value is
+ * reported within 12.5% of its true value, from 1 ns up to hundreds of years.
+ *
+ * <p>{@link #record(long)} computes the bucket with a few shifts and bumps its
+ * counter with a single fetch-and-add. It takes no locks, never retries and
+ * allocates nothing, so it is wait-free. No running sum is kept, which would
+ * cost a second atomic; the mean is estimated from the buckets. Snapshots read
+ * the counters one by one, so a snapshot taken during recording is not
+ * an exact instant.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /** Records one duration; negative values count as 0. */
+    public void record(long nanos) {
+        counts.getAndIncrement(bucket(Math.max(nanos, 0)));
+    }
+
+    public Snapshot snapshot() {
+        final long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total);
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** Largest value that falls into {@code bucket}. */
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /** Point-in-time copy of a histogram. */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+
+        private Snapshot(long[] counts, long count) {
+            this.counts = counts;
+            this.count = count;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        /** Mean with every value taken at the middle of its bucket. */
+        public double mean() {
+            if (count == 0) {
+                return 0.0;
+            }
+            double sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    final double lower = i == 0 ? 0 : upperBound(i - 1) + 1;
+                    sum += counts[i] * (lower + upperBound(i)) / 2;
+                }
+            }
+            return sum / count;
+        }
+
+        /**
+         * Upper bound of the bucket holding the {@code percentile}-th value
+         * (0 to 100), or 0 if nothing was recorded.
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(count * Math.min(percentile, 100.0) / 100.0));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return upperBound(i);
+                }
+            }
+            return max();
+        }
+
+        public long max() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] != 0) {
+                    return upperBound(i);
+                }
+            }
+            return 0;
+        }
+    }
+}
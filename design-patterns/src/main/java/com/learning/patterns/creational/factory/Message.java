@@ -0,0 +1,59 @@
+package com.learning.patterns.creational.factory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * What to send: a recipient, the id of a template registered in a
+ * {@link TemplateCache}, and the values of the template's parameters.
+ */
+public class Message {
+    private final String recipient;
+    private final String templateId;
+    private final Map<String, CharSequence> parameters;
+
+    private Message(Builder builder) {
+        this.recipient = builder.recipient;
+        this.templateId = builder.templateId;
+        this.parameters = Map.copyOf(builder.parameters);
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+    public String getTemplateId() {
+        return templateId;
+    }
+    /** Parameter values by name; unmodifiable. */
+    public Map<String, CharSequence> getParameters() {
+        return parameters;
+    }
+
+    public static class Builder {
+        private String recipient;
+        private String templateId;
+        private final Map<String, CharSequence> parameters = new LinkedHashMap<>();
+
+        public Builder recipient(final String recipient) {
+            this.recipient = recipient;
+            return this;
+        }
+
+        public Builder template(final String templateId) {
+            this.templateId = templateId;
+            return this;
+        }
+
+        public Builder param(final String name, final CharSequence value) {
+            parameters.put(name, value);
+            return this;
+        }
+
+        public Message build() {
+            if (recipient == null || templateId == null) {
+                throw new IllegalStateException("recipient and template are required");
+            }
+            return new Message(this);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.learning.patterns.creational.factory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/** Delivers rendered message bytes, e.g. to an SMTP or SMS gateway connection. */
+public interface MessageTransport {
+
+    /**
+     * Sends the bytes between {@code body}'s position and limit. The buffer is
+     * reused once this returns, so it must not be kept.
+     */
+    void send(String recipient, ByteBuffer body);
+
+    /** Writes each message to standard output, after a {@code "Sending <label> to <recipient>: "} line prefix. */
+    static MessageTransport console(String label) {
+        final WritableByteChannel out = Channels.newChannel(System.out);
+        return (recipient, body) -> {
+            synchronized (System.out) {
+                System.out.print("Sending " + label + " to " + recipient + ": ");
+                System.out.flush();
+                try {
+                    while (body.hasRemaining()) {
+                        out.write(body);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                System.out.println();
+            }
+        };
+    }
+}
@@ -2,4 +2,9 @@ package com.learning.patterns.creational.factory;
 
 public interface Notification {
     void sendMessage();
+
+    /** Sends {@code message}; channels without templates ignore its contents. */
+    default void sendMessage(Message message) {
+        sendMessage();
+    }
 }
@@ -0,0 +1,20 @@
+package com.learning.patterns.creational.factory;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the channel a {@link NotificationProvider} serves. It is read from the
+ * provider class, so {@link NotificationFactory} can index providers without
+ * instantiating them.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface NotificationChannel {
+    /** Channel name, e.g. {@code "PUSH"}. */
+    String value();
+}
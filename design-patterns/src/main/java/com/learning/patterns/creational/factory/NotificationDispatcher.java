@@ -0,0 +1,456 @@
+package com.learning.patterns.creational.factory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Sends notifications asynchronously: {@link #submit} puts the message into a
+ * bounded ring buffer for its channel and returns, and one worker thread per
+ * channel drains the buffer in batches and calls {@link Notification#sendMessage()}.
+ *
+ * <p>Each channel has its own buffer and worker, so a slow channel only fills
+ * its own buffer. What a full buffer does to the submitting thread is the
+ * channel's {@link Backpressure} policy. {@link #flush()} waits until every
+ * message submitted before the call has been sent, or until the dispatcher
+ * has been closed and its workers have stopped.
+ *
+ * <pre>
+ * try (NotificationDispatcher dispatcher = NotificationDispatcher.builder()
+ *         .capacity(4096)
+ *         .backpressure(NotificationEnum.SMS, Backpressure.DROP)
+ *         .build()) {
+ *     dispatcher.submit(NotificationEnum.EMAIL);
+ *     dispatcher.flush();
+ * }
+ * </pre>
+ */
+public class NotificationDispatcher implements AutoCloseable {
+
+    /** What {@link #submit} does when the channel's buffer is full. */
+    public enum Backpressure {
+        /** Wait until the worker frees a slot. */
+        BLOCK,
+        /** Discard the message; {@code submit} returns {@code false}. */
+        DROP,
+        /**
+         * Send the message on the submitting thread, ahead of those still
+         * queued; a failure goes to the error handler on that thread.
+         */
+        CALLER_RUNS
+    }
+
+    private final Map<NotificationEnum, Channel> channels = new EnumMap<>(NotificationEnum.class);
+    private final BiConsumer<NotificationEnum, Throwable> errorHandler;
+    private final NotificationMetrics metrics;
+    private volatile boolean closed;
+
+    private NotificationDispatcher(Builder builder) {
+        this.errorHandler = builder.errorHandler;
+        this.metrics = builder.metrics;
+        for (NotificationEnum channel : NotificationEnum.values()) {
+            final Backpressure policy = builder.policies.getOrDefault(channel, builder.backpressure);
+            channels.put(channel, new Channel(channel, builder.capacity, builder.batchSize, policy));
+        }
+        for (Channel channel : channels.values()) {
+            channel.start(builder.threadFactory);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Queues one send of the channel's shared {@link NotificationFactory} instance. */
+    public boolean submit(NotificationEnum channel) {
+        return submit(channel, NotificationFactory.getNotification(channel));
+    }
+
+    /**
+     * Queues {@code notification} on {@code channel}'s buffer.
+     *
+     * @return {@code false} if the buffer was full and the policy is {@link Backpressure#DROP}
+     * @throws IllegalStateException if the dispatcher is closed
+     */
+    public boolean submit(NotificationEnum channel, Notification notification) {
+        if (closed) {
+            throw new IllegalStateException("dispatcher is closed");
+        }
+        return channels.get(channel).submit(notification);
+    }
+
+    /**
+     * Waits until every message submitted before this call has been sent.
+     * Returns early once the dispatcher is closed and its workers have
+     * stopped; messages that raced with {@link #close()} may then be unsent.
+     */
+    public void flush() throws InterruptedException {
+        for (Channel channel : channels.values()) {
+            channel.await(channel.submitted(), false, 0L);
+        }
+    }
+
+    /**
+     * Like {@link #flush()}, but gives up after {@code timeout}.
+     *
+     * @return {@code true} if everything was sent in time; {@code false} on
+     *         timeout or if the workers stopped before sending it all
+     */
+    public boolean awaitFlush(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Channel channel : channels.values()) {
+            if (!channel.await(channel.submitted(), true, deadline)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Messages sent by the channel's worker, failed sends included. */
+    public long delivered(NotificationEnum channel) {
+        return channels.get(channel).completed;
+    }
+
+    /** Messages discarded because the channel's buffer was full. */
+    public long dropped(NotificationEnum channel) {
+        return channels.get(channel).dropped.get();
+    }
+
+    /**
+     * Sends whatever is still queued, then stops the workers and waits for
+     * them. Messages published after a worker stopped are sent on the closing
+     * thread; submissions racing with {@code close} may still be discarded, and
+     * producers waiting on a full buffer get an {@link IllegalStateException}.
+     *
+     * <p>An interrupt does not cut the wait short; the thread's interrupt
+     * status is set again before returning.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (Channel channel : channels.values()) {
+            channel.stop();
+        }
+        boolean interrupted = false;
+        for (Channel channel : channels.values()) {
+            while (true) {
+                try {
+                    channel.worker.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            // The worker is gone, so this thread is now the only consumer.
+            while (channel.drainBatch() > 0) {
+                // keep draining
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * One channel: a bounded multi-producer, single-consumer ring buffer and
+     * the worker that drains it.
+     *
+     * <p>Slot {@code i} carries a sequence number. A producer may write it when
+     * the sequence equals the claimed position {@code p}, and publishes the
+     * message by setting it to {@code p + 1}. The worker frees the slot by
+     * setting it to {@code p + capacity}, ready for the next lap.
+     */
+    private final class Channel implements Runnable {
+        private final NotificationEnum name;
+        private final Notification[] slots;
+        private final long[] submittedAt;  // only with metrics
+        private final AtomicLongArray sequences;
+        private final int mask;
+        private final int batchSize;
+        private final Backpressure policy;
+
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicInteger flushWaiters = new AtomicInteger();
+        private long head;                 // worker only
+        private volatile long completed;   // head after the batch was sent
+        private volatile boolean parked;
+        private volatile boolean stopping;
+        private volatile boolean terminated;  // the worker has returned
+        private Thread worker;
+
+        Channel(NotificationEnum name, int capacity, int batchSize, Backpressure policy) {
+            this.name = name;
+            this.slots = new Notification[capacity];
+            this.submittedAt = metrics == null ? null : new long[capacity];
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+            this.mask = capacity - 1;
+            this.batchSize = batchSize;
+            this.policy = policy;
+        }
+
+        void start(ThreadFactory threadFactory) {
+            worker = threadFactory.newThread(this);
+            worker.start();
+        }
+
+        long submitted() {
+            return tail.get();
+        }
+
+        boolean submit(Notification notification) {
+            if (offer(notification)) {
+                return true;
+            }
+            switch (policy) {
+                case DROP -> {
+                    dropped.incrementAndGet();
+                    return false;
+                }
+                case CALLER_RUNS -> {
+                    send(notification);
+                    return true;
+                }
+                default -> {
+                    long backoff = 1_000;
+                    while (!offer(notification)) {
+                        if (stopping || terminated) {
+                            throw new IllegalStateException("dispatcher is closed");
+                        }
+                        LockSupport.parkNanos(backoff);
+                        backoff = Math.min(backoff * 2, 1_000_000);
+                    }
+                    return true;
+                }
+            }
+        }
+
+        private boolean offer(Notification notification) {
+            long position = tail.get();
+            while (true) {
+                final int index = (int) position & mask;
+                final long diff = sequences.get(index) - position;
+                if (diff == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        slots[index] = notification;
+                        if (submittedAt != null) {
+                            submittedAt[index] = System.nanoTime();
+                        }
+                        sequences.set(index, position + 1);
+                        if (parked) {
+                            LockSupport.unpark(worker);
+                        }
+                        return true;
+                    }
+                    position = tail.get();
+                } else if (diff < 0) {
+                    return false; // a full lap behind: the buffer is full
+                } else {
+                    position = tail.get(); // another producer took this slot
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    if (drainBatch() > 0) {
+                        continue;
+                    }
+                    if (stopping) {
+                        if (drainBatch() == 0) {
+                            return;
+                        }
+                        continue;
+                    }
+                    // Publish the flag before the final emptiness check; producers check it after publishing.
+                    parked = true;
+                    if (!hasNext() && !stopping) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                }
+            } finally {
+                terminated = true;
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+
+        private boolean hasNext() {
+            return sequences.get((int) head & mask) == head + 1;
+        }
+
+        private int drainBatch() {
+            int count = 0;
+            while (count < batchSize && hasNext()) {
+                final int index = (int) head & mask;
+                final Notification notification = slots[index];
+                slots[index] = null;
+                final long queuedAt = submittedAt == null ? 0L : submittedAt[index];
+                sequences.set(index, head + slots.length);
+                head++;
+                count++;
+                if (submittedAt == null) {
+                    send(notification);
+                } else {
+                    metrics.record(name, NotificationMetrics.Stage.QUEUE, System.nanoTime() - queuedAt);
+                    send(notification);
+                    metrics.record(name, NotificationMetrics.Stage.END_TO_END, System.nanoTime() - queuedAt);
+                }
+            }
+            if (count > 0) {
+                completed = head;
+                if (flushWaiters.get() > 0) {
+                    synchronized (this) {
+                        notifyAll();
+                    }
+                }
+            }
+            return count;
+        }
+
+        private void send(Notification notification) {
+            try {
+                if (metrics == null) {
+                    notification.sendMessage();
+                } else {
+                    metrics.timeSend(name, notification, null);
+                }
+            } catch (Throwable e) {
+                errorHandler.accept(name, e);
+            }
+        }
+
+        /**
+         * Waits until {@code target} messages have been sent, the worker has
+         * returned or, if {@code timed}, {@code deadline} (nanoTime) passes.
+         */
+        boolean await(long target, boolean timed, long deadline) throws InterruptedException {
+            if (completed >= target) {
+                return true;
+            }
+            flushWaiters.incrementAndGet();
+            try {
+                synchronized (this) {
+                    while (completed < target) {
+                        if (terminated) {
+                            return false;
+                        }
+                        if (!timed) {
+                            wait();
+                            continue;
+                        }
+                        final long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            return false;
+                        }
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    }
+                    return true;
+                }
+            } finally {
+                flushWaiters.decrementAndGet();
+            }
+        }
+
+        void stop() {
+            stopping = true;
+            LockSupport.unpark(worker);
+        }
+    }
+
+    public static class Builder {
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private int capacity = 1024;
+        private int batchSize = 64;
+        private Backpressure backpressure = Backpressure.BLOCK;
+        private final Map<NotificationEnum, Backpressure> policies = new EnumMap<>(NotificationEnum.class);
+        private ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "notification-dispatcher-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        private BiConsumer<NotificationEnum, Throwable> errorHandler =
+                (channel, e) -> System.err.println("Sending " + channel + " failed: " + e);
+        private NotificationMetrics metrics;
+
+        /** Buffer size per channel, rounded up to a power of two. */
+        public Builder capacity(final int capacity) {
+            if (capacity < 2 || capacity > 1 << 30) {
+                throw new IllegalArgumentException("capacity must be in [2, 2^30]: " + capacity);
+            }
+            this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+            return this;
+        }
+
+        /** Most messages a worker takes per pass before updating progress and waking flushers. */
+        public Builder batchSize(final int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be >= 1: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /** Default policy for every channel. */
+        public Builder backpressure(final Backpressure backpressure) {
+            this.backpressure = backpressure;
+            return this;
+        }
+
+        public Builder backpressure(final NotificationEnum channel, final Backpressure backpressure) {
+            policies.put(channel, backpressure);
+            return this;
+        }
+
+        /**
+         * Creates the workers, one per channel. Defaults to daemon platform
+         * threads; on Java 21+ {@code Thread.ofVirtual().factory()} runs them
+         * on virtual threads.
+         */
+        public Builder threadFactory(final ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * Called when a send throws anything, errors included. Usually that is
+         * on the channel's worker, which keeps running unless the handler itself
+         * throws. Under {@link Backpressure#CALLER_RUNS} a send from a full
+         * buffer happens on the submitting thread, and so does the handler call;
+         * if the handler throws there, the exception propagates out of
+         * {@link NotificationDispatcher#submit}.
+         */
+        public Builder onError(final BiConsumer<NotificationEnum, Throwable> errorHandler) {
+            this.errorHandler = errorHandler;
+            return this;
+        }
+
+        /**
+         * Records queue, send and end-to-end latency and send outcomes of every
+         * message. Queued notifications should not be instrumented as well, or
+         * their sends are counted twice.
+         */
+        public Builder metrics(final NotificationMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        public NotificationDispatcher build() {
+            return new NotificationDispatcher(this);
+        }
+    }
+}
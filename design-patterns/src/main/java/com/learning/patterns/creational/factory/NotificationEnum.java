@@ -1,6 +1,18 @@
 package com.learning.patterns.creational.factory;
 
+import java.util.function.Supplier;
+
 public enum NotificationEnum {
-    EMAIL,
-    SMS
+    EMAIL(EmailNotification::new),
+    SMS(SmsNotification::new);
+
+    private final Supplier<Notification> factory;
+
+    NotificationEnum(Supplier<Notification> factory) {
+        this.factory = factory;
+    }
+
+    Notification create() {
+        return factory.get();
+    }
 }
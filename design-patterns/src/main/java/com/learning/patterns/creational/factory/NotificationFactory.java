@@ -1,16 +1,115 @@
 package com.learning.patterns.creational.factory;
 
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of shared, stateless {@link Notification} instances (flyweights).
+ *
+ * <p>Built-in channels are created on their first request and kept in an
+ * {@link EnumMap}. The map is copied and republished on each such write, so
+ * lookups read it without a lock. Other channels come from
+ * {@link NotificationProvider} plugins. The first plugin lookup streams
+ * {@link ServiceLoader} once and indexes the providers by the
+ * {@link NotificationChannel} annotation on their class, without
+ * instantiating any. Only a requested channel's provider is created; its
+ * notification is cached in a {@link ConcurrentHashMap}, whose reads take no
+ * lock. Unknown channels fail with one map read.
+ */
 public class NotificationFactory {
+    private static final Map<String, Notification> PLUGINS = new ConcurrentHashMap<>();
+    private static final NotificationEnum[] CHANNELS = NotificationEnum.values(); // values() copies on every call
+
+    private static volatile Map<NotificationEnum, Notification> builtIn = new EnumMap<>(NotificationEnum.class);
+
+    private NotificationFactory() {
+    }
+
     public static Notification getNotification(NotificationEnum notification) {
-        switch (notification) {
-            case EMAIL -> {
-                return new EmailNotification();
-            }
-            case SMS -> {
-                return new SmsNotification();
+        final Notification instance = builtIn.get(notification);
+        return instance != null ? instance : createBuiltIn(notification);
+    }
+
+    /** Looks up a built-in channel by name, or a plugin channel. */
+    public static Notification getNotification(String channel) {
+        for (NotificationEnum builtIn : CHANNELS) {
+            if (builtIn.name().equals(channel)) {
+                return getNotification(builtIn);
             }
-            default -> {
-                throw new UnsupportedOperationException();
+        }
+        final Notification instance = PLUGINS.get(channel);
+        if (instance != null) {
+            return instance;
+        }
+        final ServiceLoader.Provider<NotificationProvider> provider = Providers.BY_CHANNEL.get(channel);
+        if (provider == null) {
+            throw new UnsupportedOperationException("No notification provider for channel: " + channel);
+        }
+        return PLUGINS.computeIfAbsent(channel, name -> provider.get().create());
+    }
+
+    private static synchronized Notification createBuiltIn(NotificationEnum channel) {
+        if (channel == null) {
+            throw new UnsupportedOperationException("No notification for channel: " + channel);
+        }
+        Notification instance = builtIn.get(channel);
+        if (instance == null) {
+            instance = channel.create();
+            final Map<NotificationEnum, Notification> copy = new EnumMap<>(builtIn);
+            copy.put(channel, instance);
+            builtIn = copy;
+        }
+        return instance;
+    }
+
+    /** Holder for the provider index, built on first use by the class initializer. */
+    private static final class Providers {
+        /** Upper bound on skipped providers, in case the loader keeps failing in new ways. */
+        private static final int MAX_ERRORS = 64;
+
+        static final Map<String, ServiceLoader.Provider<NotificationProvider>> BY_CHANNEL = load();
+
+        /**
+         * Indexes the listed providers by their class's {@link NotificationChannel};
+         * the first one listed for a channel wins. Providers that fail to load
+         * or lack the annotation are skipped. The loader only tries its best to
+         * move past an error, so indexing stops when the same error comes back
+         * twice in a row, or after {@value #MAX_ERRORS} errors.
+         */
+        private static Map<String, ServiceLoader.Provider<NotificationProvider>> load() {
+            final Map<String, ServiceLoader.Provider<NotificationProvider>> byChannel = new HashMap<>();
+            final Iterator<ServiceLoader.Provider<NotificationProvider>> providers =
+                    ServiceLoader.load(NotificationProvider.class).stream().iterator();
+            String lastError = null;
+            int errors = 0;
+            while (true) {
+                try {
+                    if (!providers.hasNext()) {
+                        return byChannel;
+                    }
+                    final ServiceLoader.Provider<NotificationProvider> provider = providers.next();
+                    lastError = null;
+                    final NotificationChannel channel = provider.type().getAnnotation(NotificationChannel.class);
+                    if (channel == null) {
+                        System.err.println("Skipping notification provider " + provider.type().getName()
+                                + ": not annotated with @NotificationChannel");
+                    } else {
+                        byChannel.putIfAbsent(channel.value(), provider);
+                    }
+                } catch (ServiceConfigurationError e) {
+                    // A broken provider must not take the other channels down with it.
+                    if (String.valueOf(e.getMessage()).equals(lastError) || ++errors > MAX_ERRORS) {
+                        System.err.println("Stopped loading notification providers: " + e.getMessage());
+                        return byChannel;
+                    }
+                    System.err.println("Skipping notification provider: " + e.getMessage());
+                    lastError = String.valueOf(e.getMessage());
+                }
             }
         }
     }
@@ -0,0 +1,209 @@
+package com.learning.patterns.creational.factory;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Latency histograms and success/failure counters per {@link NotificationEnum}.
+ *
+ * <p>Each channel has one {@link LatencyHistogram} per {@link Stage}. Sends
+ * are timed by wrapping a notification with {@link #instrument}, or by giving
+ * the metrics to {@link NotificationDispatcher.Builder#metrics}, which also
+ * records how long messages wait in the queue. Recording is wait-free and
+ * allocation-free; the main cost is the two {@link System#nanoTime()} reads
+ * around each send.
+ *
+ * <p>Read the numbers with {@link #snapshot()} or, after
+ * {@link #registerMBeans()}, over JMX through {@link ChannelMetricsMXBean}.
+ */
+public class NotificationMetrics {
+
+    public enum Stage {
+        /** From {@code submit} until a dispatcher worker picks the message up. */
+        QUEUE,
+        /** The {@link Notification#sendMessage()} call itself. */
+        SEND,
+        /** From {@code submit} until the send returns. */
+        END_TO_END
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final Map<NotificationEnum, ChannelMetrics> channels = new EnumMap<>(NotificationEnum.class);
+
+    public NotificationMetrics() {
+        for (NotificationEnum channel : NotificationEnum.values()) {
+            channels.put(channel, new ChannelMetrics(channel));
+        }
+    }
+
+    /** Wraps {@code notification} so that its sends are recorded under {@code channel}. */
+    public Notification instrument(NotificationEnum channel, Notification notification) {
+        return new InstrumentedNotification(notification, channel, this);
+    }
+
+    public void record(NotificationEnum channel, Stage stage, long nanos) {
+        channels.get(channel).stages[stage.ordinal()].record(nanos);
+    }
+
+    public void recordSuccess(NotificationEnum channel) {
+        channels.get(channel).successes.getAndIncrement();
+    }
+
+    public void recordFailure(NotificationEnum channel) {
+        channels.get(channel).failures.getAndIncrement();
+    }
+
+    public long successCount(NotificationEnum channel) {
+        return channels.get(channel).successes.get();
+    }
+
+    public long failureCount(NotificationEnum channel) {
+        return channels.get(channel).failures.get();
+    }
+
+    public LatencyHistogram.Snapshot snapshot(NotificationEnum channel, Stage stage) {
+        return channels.get(channel).stages[stage.ordinal()].snapshot();
+    }
+
+    /**
+     * Sends {@code notification}, with {@code message} if not {@code null},
+     * recording its {@link Stage#SEND} time and outcome; rethrows failures.
+     */
+    void timeSend(NotificationEnum channel, Notification notification, Message message) {
+        final ChannelMetrics metrics = channels.get(channel);
+        final long start = System.nanoTime();
+        try {
+            if (message == null) {
+                notification.sendMessage();
+            } else {
+                notification.sendMessage(message);
+            }
+            metrics.successes.getAndIncrement();
+        } catch (Throwable e) {
+            metrics.failures.getAndIncrement();
+            throw e;
+        } finally {
+            metrics.stages[Stage.SEND.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Text report of every channel, e.g.
+     * <pre>
+     * EMAIL success=1000 failure=2
+     *   SEND       count=1002 mean=1.4us p50=1.2us p99=7.2us max=30.7us
+     * </pre>
+     * Stages with no records are left out.
+     */
+    public String snapshot() {
+        final StringBuilder sb = new StringBuilder();
+        for (ChannelMetrics metrics : channels.values()) {
+            metrics.appendTo(sb);
+        }
+        return sb.toString();
+    }
+
+    /** Registers one {@link ChannelMetricsMXBean} per channel with the platform MBean server. */
+    public void registerMBeans() throws JMException {
+        registerMBeans(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public void registerMBeans(MBeanServer server) throws JMException {
+        for (ChannelMetrics metrics : channels.values()) {
+            server.registerMBean(metrics, metrics.objectName);
+        }
+    }
+
+    public void unregisterMBeans(MBeanServer server) throws JMException {
+        for (ChannelMetrics metrics : channels.values()) {
+            if (server.isRegistered(metrics.objectName)) {
+                server.unregisterMBean(metrics.objectName);
+            }
+        }
+    }
+
+    private static final class ChannelMetrics implements ChannelMetricsMXBean {
+        private final NotificationEnum channel;
+        private final ObjectName objectName;
+        private final LatencyHistogram[] stages = new LatencyHistogram[STAGES.length];
+        private final AtomicLong successes = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+
+        ChannelMetrics(NotificationEnum channel) {
+            this.channel = channel;
+            for (int i = 0; i < stages.length; i++) {
+                stages[i] = new LatencyHistogram();
+            }
+            try {
+                this.objectName = new ObjectName(
+                        "com.learning.patterns.creational.factory:type=NotificationMetrics,channel=" + channel);
+            } catch (JMException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public long getSuccessCount() {
+            return successes.get();
+        }
+
+        @Override
+        public long getFailureCount() {
+            return failures.get();
+        }
+
+        @Override
+        public double getSendMeanMicros() {
+            return stages[Stage.SEND.ordinal()].snapshot().mean() / 1e3;
+        }
+
+        @Override
+        public double getSendP50Micros() {
+            return p(Stage.SEND, 50);
+        }
+
+        @Override
+        public double getSendP99Micros() {
+            return p(Stage.SEND, 99);
+        }
+
+        @Override
+        public double getQueueP99Micros() {
+            return p(Stage.QUEUE, 99);
+        }
+
+        @Override
+        public double getEndToEndP99Micros() {
+            return p(Stage.END_TO_END, 99);
+        }
+
+        @Override
+        public String getSnapshot() {
+            return appendTo(new StringBuilder()).toString();
+        }
+
+        private double p(Stage stage, double percentile) {
+            return stages[stage.ordinal()].snapshot().percentile(percentile) / 1e3;
+        }
+
+        StringBuilder appendTo(StringBuilder sb) {
+            sb.append(channel).append(" success=").append(successes.get())
+                    .append(" failure=").append(failures.get()).append('\n');
+            for (Stage stage : STAGES) {
+                final LatencyHistogram.Snapshot s = stages[stage.ordinal()].snapshot();
+                if (s.count() > 0) {
+                    sb.append(String.format("  %-10s count=%d mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus%n",
+                            stage, s.count(), s.mean() / 1e3, s.percentile(50) / 1e3,
+                            s.percentile(99) / 1e3, s.max() / 1e3));
+                }
+            }
+            return sb;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.learning.patterns.creational.factory;
+
+/**
+ * Plugin point for channels beyond {@link NotificationEnum}. Implementations
+ * are listed in {@code META-INF/services/com.learning.patterns.creational.factory.NotificationProvider}
+ * and annotated with {@link NotificationChannel}. {@link java.util.ServiceLoader}
+ * indexes them by that annotation the first time any plugin channel is
+ * requested, and only the provider of a requested channel is instantiated.
+ */
+public interface NotificationProvider {
+    /** Channel name this provider serves, e.g. {@code "PUSH"}; taken from {@link NotificationChannel}. */
+    default String channel() {
+        return getClass().getAnnotation(NotificationChannel.class).value();
+    }
+
+    /** Creates the channel's notification; called once, the result is shared by all callers. */
+    Notification create();
+}
@@ -0,0 +1,90 @@
+package com.learning.patterns.creational.factory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission check in front of the notification channels: a {@link DedupeWindow}
+ * drops repeats of the same recipient and content, then a per-channel
+ * {@link RateLimiter} caps what is left. Both are lock-free, so
+ * {@link #tryAcquire} can be called from any number of request threads.
+ *
+ * <pre>
+ * NotificationThrottle throttle = NotificationThrottle.builder()
+ *         .rate(NotificationEnum.SMS, 50, 10)
+ *         .dedupe(30, TimeUnit.SECONDS, 1 &lt;&lt; 16)
+ *         .build();
+ * if (throttle.tryAcquire(NotificationEnum.SMS, phone, text) == NotificationThrottle.Decision.SEND) {
+ *     dispatcher.submit(NotificationEnum.SMS);
+ * }
+ * </pre>
+ */
+public class NotificationThrottle {
+
+    public enum Decision {
+        SEND,
+        /** Same recipient and content was admitted within the dedupe window. */
+        DUPLICATE,
+        /** The channel is over its rate. */
+        RATE_LIMITED
+    }
+
+    private final Map<NotificationEnum, RateLimiter> limiters;
+    private final DedupeWindow dedupe;
+
+    private NotificationThrottle(Builder builder) {
+        this.limiters = new EnumMap<>(builder.limiters);
+        this.dedupe = builder.dedupe;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Decides whether a message may go out. A rate-limited message is removed
+     * from the dedupe window again, so a retry is not mistaken for a duplicate.
+     */
+    public Decision tryAcquire(NotificationEnum channel, CharSequence recipient, CharSequence content) {
+        final long key = dedupe == null ? 0L : DedupeWindow.key(recipient, content);
+        if (dedupe != null && !dedupe.firstSeen(key)) {
+            return Decision.DUPLICATE;
+        }
+        final RateLimiter limiter = limiters.get(channel);
+        if (limiter != null && !limiter.tryAcquire()) {
+            if (dedupe != null) {
+                dedupe.forget(key);
+            }
+            return Decision.RATE_LIMITED;
+        }
+        return Decision.SEND;
+    }
+
+    /** Rate check only, for messages that are never deduplicated. */
+    public boolean tryAcquire(NotificationEnum channel) {
+        final RateLimiter limiter = limiters.get(channel);
+        return limiter == null || limiter.tryAcquire();
+    }
+
+    public static class Builder {
+        private final Map<NotificationEnum, RateLimiter> limiters = new EnumMap<>(NotificationEnum.class);
+        private DedupeWindow dedupe;
+
+        /** Limits {@code channel}; channels without a rate are unlimited. */
+        public Builder rate(final NotificationEnum channel, final double permitsPerSecond, final int burst) {
+            limiters.put(channel, new RateLimiter(permitsPerSecond, burst));
+            return this;
+        }
+
+        /** Drops repeats within {@code window}, remembering up to {@code capacity} keys. */
+        public Builder dedupe(final long window, final TimeUnit unit, final int capacity) {
+            this.dedupe = new DedupeWindow(window, unit, capacity);
+            return this;
+        }
+
+        public NotificationThrottle build() {
+            return new NotificationThrottle(this);
+        }
+    }
+}
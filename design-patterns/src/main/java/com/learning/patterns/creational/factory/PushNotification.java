@@ -0,0 +1,8 @@
+package com.learning.patterns.creational.factory;
+
+public class PushNotification implements Notification {
+    @Override
+    public void sendMessage() {
+        System.out.println("Sending Push...");
+    }
+}
@@ -0,0 +1,9 @@
+package com.learning.patterns.creational.factory;
+
+@NotificationChannel("PUSH")
+public class PushNotificationProvider implements NotificationProvider {
+    @Override
+    public Notification create() {
+        return new PushNotification();
+    }
+}
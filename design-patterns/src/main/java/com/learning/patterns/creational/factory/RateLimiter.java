@@ -0,0 +1,52 @@
+package com.learning.patterns.creational.factory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, implemented as the generic cell rate algorithm
+ * (GCRA): instead of a token count it keeps a single "theoretical arrival
+ * time", the instant at which the bucket would be full again.
+ *
+ * <p>Each permit pushes that time {@code interval = 1s / permitsPerSecond}
+ * further out. A request is refused when this would put it more than
+ * {@code burst} intervals ahead of now. The whole state is one
+ * {@link AtomicLong} updated by compare-and-set, so refill needs no timer and
+ * a refused request writes nothing.
+ */
+public class RateLimiter {
+    private final long interval;
+    private final long limit;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permitsPerSecond sustained rate
+     * @param burst permits that may be taken at once after an idle period
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0) || burst < 1) {
+            throw new IllegalArgumentException("need permitsPerSecond > 0 and burst >= 1: "
+                    + permitsPerSecond + ", " + burst);
+        }
+        this.interval = Math.max(1L, (long) (1e9 / permitsPerSecond));
+        this.limit = interval * burst;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    /** {@link #tryAcquire()} at {@code now}, a {@link System#nanoTime()} reading. */
+    public boolean tryAcquire(long now) {
+        while (true) {
+            final long arrival = theoreticalArrival.get();
+            final long next = Math.max(arrival - now, 0) + now + interval;
+            if (next - now > limit) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return true;
+            }
+        }
+    }
+}
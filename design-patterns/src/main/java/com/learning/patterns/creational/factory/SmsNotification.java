@@ -1,6 +1,14 @@
 package com.learning.patterns.creational.factory;
 
-public class SmsNotification implements Notification {
+public class SmsNotification extends TemplatedNotification {
+    public SmsNotification() {
+        this(TemplateCache.getDefault(), MessageTransport.console("SMS"));
+    }
+
+    public SmsNotification(TemplateCache templates, MessageTransport transport) {
+        super(NotificationEnum.SMS, templates, transport);
+    }
+
     @Override
     public void sendMessage() {
         System.out.println("Sending SMS...");
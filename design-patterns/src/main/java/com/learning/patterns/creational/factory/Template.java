@@ -0,0 +1,99 @@
+package com.learning.patterns.creational.factory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Message text with {@code {name}} placeholders, compiled once into
+ * UTF-8-encoded literal segments and parameter names. A doubled opening
+ * brace writes a literal one.
+ *
+ * <p>{@link #render} copies the pre-encoded literals into the buffer and
+ * encodes parameter values to UTF-8 char by char, straight into the buffer,
+ * so rendering creates no {@code String}s or byte arrays.
+ */
+public final class Template {
+    private final byte[][] literals;   // literals[i] comes before names[i]; one more literal than names
+    private final String[] names;
+
+    private Template(byte[][] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+    }
+
+    public static Template compile(String text) {
+        final List<byte[]> literals = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            final char c = text.charAt(i);
+            if (c == '{' && i + 1 < text.length() && text.charAt(i + 1) == '{') {
+                literal.append('{');
+                i += 2;
+            } else if (c == '{') {
+                final int end = text.indexOf('}', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed placeholder at " + i + ": " + text);
+                }
+                literals.add(literal.toString().getBytes(StandardCharsets.UTF_8));
+                literal.setLength(0);
+                names.add(text.substring(i + 1, end));
+                i = end + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(literal.toString().getBytes(StandardCharsets.UTF_8));
+        return new Template(literals.toArray(new byte[0][]), names.toArray(new String[0]));
+    }
+
+    /**
+     * Writes the text with {@code parameters} filled in to {@code out}, as UTF-8.
+     *
+     * @throws IllegalArgumentException if a parameter is missing
+     * @throws java.nio.BufferOverflowException if {@code out} is too small;
+     *         its position is then undefined
+     */
+    public void render(Map<String, ? extends CharSequence> parameters, ByteBuffer out) {
+        for (int i = 0; i < names.length; i++) {
+            out.put(literals[i]);
+            final CharSequence value = parameters.get(names[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing template parameter: " + names[i]);
+            }
+            encodeUtf8(value, out);
+        }
+        out.put(literals[names.length]);
+    }
+
+    /** Unpaired surrogates are written as {@code '?'}, as {@link String#getBytes} does. */
+    static void encodeUtf8(CharSequence value, ByteBuffer out) {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | cp >> 18));
+                out.put((byte) (0x80 | cp >> 12 & 0x3F));
+                out.put((byte) (0x80 | cp >> 6 & 0x3F));
+                out.put((byte) (0x80 | cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.learning.patterns.creational.factory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled {@link Template}s per channel and template id. Templates are
+ * compiled when registered, so sends only look them up.
+ */
+public class TemplateCache {
+    private static final TemplateCache DEFAULT = new TemplateCache();
+
+    private final Map<NotificationEnum, Map<String, Template>> templates = new EnumMap<>(NotificationEnum.class);
+
+    public TemplateCache() {
+        for (NotificationEnum channel : NotificationEnum.values()) {
+            templates.put(channel, new ConcurrentHashMap<>());
+        }
+    }
+
+    /** The cache used by notifications created with their no-argument constructors. */
+    public static TemplateCache getDefault() {
+        return DEFAULT;
+    }
+
+    /** Compiles {@code text} and stores it, replacing any template with the same id. */
+    public void register(NotificationEnum channel, String templateId, String text) {
+        templates.get(channel).put(templateId, Template.compile(text));
+    }
+
+    public Template get(NotificationEnum channel, String templateId) {
+        final Template template = templates.get(channel).get(templateId);
+        if (template == null) {
+            throw new IllegalArgumentException("No " + channel + " template: " + templateId);
+        }
+        return template;
+    }
+}
@@ -0,0 +1,44 @@
+package com.learning.patterns.creational.factory;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Base of notifications that send {@link Message}s: the message's template is
+ * rendered into a direct {@link ByteBuffer} kept per thread and handed to a
+ * {@link MessageTransport}. Messages that fit in the buffer's 4 KB allocate
+ * nothing; larger ones are rendered into a temporary heap buffer, so one long
+ * message does not pin a large direct buffer to the thread for good.
+ */
+public abstract class TemplatedNotification implements Notification {
+    private static final int BUFFER_SIZE = 4096;
+
+    private final NotificationEnum channel;
+    private final TemplateCache templates;
+    private final MessageTransport transport;
+    private final ThreadLocal<ByteBuffer> buffers =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    protected TemplatedNotification(NotificationEnum channel, TemplateCache templates, MessageTransport transport) {
+        this.channel = channel;
+        this.templates = templates;
+        this.transport = transport;
+    }
+
+    @Override
+    public void sendMessage(Message message) {
+        final Template template = templates.get(channel, message.getTemplateId());
+        ByteBuffer buffer = buffers.get();
+        while (true) {
+            buffer.clear();
+            try {
+                template.render(message.getParameters(), buffer);
+                break;
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+        buffer.flip();
+        transport.send(message.getRecipient(), buffer);
+    }
+}